@@ -0,0 +1,76 @@
+package pong.game.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pong.game.engine.GameEngine;
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+
+/**
+ * IA del oponente en cada dificultad.
+ * <p>
+ * Se mide un {@link GameEngine#tick()} completo de partida con la pelota
+ * colocada en el centro antes de cada operación, sin partículas: avance de la
+ * pelota, colisión sin contacto y la IA, que es la parte que cambia entre
+ * dificultades y sentidos de la pelota.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public GameModel.Difficulty difficulty;
+    
+    private GameModel model;
+    private GameEngine engine;
+    private Ball ball;
+    
+    @Setup
+    public void setUp() {
+        model = new GameModel();
+        model.setCurrentDifficulty(difficulty);
+        engine = new GameEngine(model);
+        engine.startGame();
+        ball = model.getBall();
+        ball.setEffects(null);
+    }
+    
+    /**
+     * Pelota acercándose, que es cuando la IA predice el punto de corte
+     */
+    @Benchmark
+    public int approaching() {
+        ball.x = GameModel.WIDTH / 2;
+        ball.y = GameModel.HEIGHT / 2;
+        ball.setXVelocity(4);
+        engine.tick();
+        return model.getAiPaddle().y;
+    }
+    
+    /**
+     * Pelota alejándose: la IA vuelve al centro
+     */
+    @Benchmark
+    public int receding() {
+        ball.x = GameModel.WIDTH / 2;
+        ball.y = GameModel.HEIGHT / 2;
+        ball.setXVelocity(-4);
+        engine.tick();
+        return model.getAiPaddle().y;
+    }
+}
@@ -0,0 +1,70 @@
+package pong.game.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+import pong.game.model.Paddle;
+
+/**
+ * Física de la pelota: avance con rebotes en las paredes y rebote en una paleta.
+ * Con {@code effects=true} la pelota emite estela y chispas y el sistema de
+ * partículas avanza en cada operación, como en un tick real.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BallBenchmark {
+    @Param({"false", "true"})
+    public boolean effects;
+    
+    private GameModel model;
+    private Ball ball;
+    private Paddle paddle;
+    
+    @Setup
+    public void setUp() {
+        model = new GameModel();
+        ball = model.getBall();
+        paddle = model.getAiPaddle();
+        ball.setEffects(effects ? model.getParticles() : null);
+    }
+    
+    @Benchmark
+    public int update() {
+        ball.update();
+        if (effects) {
+            model.getParticles().update();
+        }
+        // La pelota no rebota en los laterales: se recoloca antes de salir del campo
+        if (ball.x < 0 || ball.x > GameModel.WIDTH) {
+            ball.x = GameModel.WIDTH / 2;
+        }
+        return ball.y;
+    }
+    
+    @Benchmark
+    public float deflectFromPaddle() {
+        ball.y = paddle.y + paddle.height / 3;
+        ball.deflectFromPaddle(paddle);
+        if (effects) {
+            model.getParticles().update();
+        }
+        return ball.getYVelocity();
+    }
+}
@@ -0,0 +1,30 @@
+package pong.game.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}.
+ * <p>
+ * Reenvía los argumentos a JMH y añade {@code -prof gc} si no se indica otro
+ * perfilador, para que cada resultado incluya la tasa de asignación
+ * ({@code gc.alloc.rate.norm}) además de las operaciones por segundo:
+ * <pre>
+ *   java -jar pong-bench/target/benchmarks.jar              # todos
+ *   java -jar pong-bench/target/benchmarks.jar AIBenchmark  # un grupo
+ * </pre>
+ */
+public final class BenchmarkMain {
+    private BenchmarkMain() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-prof") && !jmhArgs.contains("-h") && !jmhArgs.contains("-l")) {
+            jmhArgs.add("-prof");
+            jmhArgs.add("gc");
+        }
+        org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
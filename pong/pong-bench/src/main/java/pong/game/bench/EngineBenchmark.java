@@ -0,0 +1,107 @@
+package pong.game.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pong.game.engine.GameEngine;
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+import pong.game.model.Paddle;
+
+/**
+ * Tick del motor en partida y en modo demo.
+ * <p>
+ * Todo pasa por {@link GameEngine#tick()} con el estado preparado antes de
+ * cada operación. Los casos con y sin colisión se miden sin efectos de
+ * partículas para aislar la lógica; {@link #demoModeTick()} incluye las
+ * partículas porque es lo que se ejecuta detrás de los menús.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+    private GameModel model;
+    private GameEngine engine;
+    private Ball ball;
+    private Paddle playerPaddle;
+    
+    private GameModel demoModel;
+    private GameEngine demoEngine;
+    
+    private GameModel demoPhysicsModel;
+    private GameEngine demoPhysicsEngine;
+    
+    @Setup
+    public void setUp() {
+        model = new GameModel();
+        engine = new GameEngine(model);
+        engine.startGame();
+        ball = model.getBall();
+        ball.setEffects(null);
+        playerPaddle = model.getPlayerPaddle();
+        
+        demoModel = new GameModel();
+        demoModel.setDemoMode(true);
+        demoEngine = new GameEngine(demoModel);
+        
+        demoPhysicsModel = new GameModel();
+        demoPhysicsModel.setDemoMode(true);
+        demoPhysicsModel.getBall().setEffects(null);
+        demoPhysicsEngine = new GameEngine(demoPhysicsModel);
+    }
+    
+    /**
+     * Tick de partida sin contacto: el caso de casi todos los ticks
+     */
+    @Benchmark
+    public int tickMiss() {
+        ball.x = GameModel.WIDTH / 2;
+        ball.y = GameModel.HEIGHT / 2;
+        ball.setXVelocity(-4);
+        engine.tick();
+        return ball.x;
+    }
+    
+    /**
+     * Tick de partida en el que la pelota alcanza la paleta del jugador y rebota
+     */
+    @Benchmark
+    public int tickPaddleHit() {
+        ball.x = playerPaddle.x + playerPaddle.width + 1;
+        ball.y = playerPaddle.y + playerPaddle.height / 2 - ball.height / 2;
+        ball.setXVelocity(-4);
+        engine.tick();
+        return ball.x;
+    }
+    
+    /**
+     * Tick completo del modo demo (pelota, dos paletas automáticas, colisiones y partículas)
+     */
+    @Benchmark
+    public int demoModeTick() {
+        demoEngine.tick();
+        return demoModel.getBall().x;
+    }
+    
+    /**
+     * Tick del modo demo sin efectos de partículas
+     */
+    @Benchmark
+    public int demoModeTickNoEffects() {
+        demoPhysicsEngine.tick();
+        return demoPhysicsModel.getBall().x;
+    }
+}
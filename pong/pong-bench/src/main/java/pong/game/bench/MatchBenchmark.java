@@ -0,0 +1,72 @@
+package pong.game.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pong.game.engine.GameEngine;
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+import pong.game.model.Paddle;
+
+/**
+ * Partida completa sin ventana, de {@code startGame()} hasta el final, con
+ * partículas y pausas tras cada punto. La paleta del jugador sigue la pelota
+ * con un retraso para que las partidas duren varios intercambios.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchBenchmark {
+    // Límite de seguridad por si una partida no terminara
+    private static final int MAX_TICKS = 1_000_000;
+    
+    @Param({"EASY", "HARD"})
+    public GameModel.Difficulty difficulty;
+    
+    private GameModel model;
+    private GameEngine engine;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new GameModel();
+        model.setCurrentDifficulty(difficulty);
+        engine = new GameEngine(model);
+    }
+    
+    /**
+     * @return ticks simulados en la partida
+     */
+    @Benchmark
+    public int fullMatch() {
+        engine.startGame();
+        int ticks = 0;
+        while (!model.isGameOver() && ticks < MAX_TICKS) {
+            steerPlayer();
+            engine.tick();
+            ticks++;
+        }
+        return ticks;
+    }
+    
+    private void steerPlayer() {
+        Ball ball = model.getBall();
+        Paddle paddle = model.getPlayerPaddle();
+        int error = (ball.y + ball.height / 2) - (paddle.y + paddle.height / 2);
+        paddle.setYVelocity(Math.abs(error) < 20 ? 0 : Integer.signum(error) * 4);
+    }
+}
@@ -0,0 +1,242 @@
+package pong.game.bench;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pong.game.controller.GameController;
+import pong.game.model.GameModel;
+import pong.game.model.Theme;
+import pong.game.view.ModernButton;
+import pong.game.view.PongGame;
+import pong.game.view.screens.DifficultyScreen;
+import pong.game.view.screens.GameScreen;
+import pong.game.view.screens.InstructionsScreen;
+import pong.game.view.screens.MenuScreen;
+import pong.game.view.screens.ThemeScreen;
+
+/**
+ * Dibuja cada pantalla y un {@link ModernButton} en una imagen en memoria,
+ * con cada tema y con los dos pipelines de dibujado:
+ * <ul>
+ *   <li>{@code software}: destino {@link BufferedImage} y componentes sin
+ *       configuración gráfica, como en {@code OffscreenRenderer}.</li>
+ *   <li>{@code accelerated}: destino {@link VolatileImage} y componentes dentro
+ *       de una ventana que nunca se muestra, así que sus capas en caché también
+ *       son imágenes aceleradas. Necesita pantalla; sin ella usar
+ *       {@code -p pipeline=software}.</li>
+ * </ul>
+ * {@link #fps()} informa de fotogramas por segundo, {@link #frameTime()} de la
+ * distribución del coste por fotograma (p0.99 incluido) y {@code -prof gc},
+ * activo por defecto en {@code benchmarks.jar}, de los bytes asignados por
+ * fotograma ({@code gc.alloc.rate.norm}). Las pantallas de menú se miden sin la
+ * partida de fondo; {@code GAME} simula un tick del modo demo antes de cada
+ * fotograma para que la pelota y las partículas se muevan.
+ * <p>
+ * Como en el juego, los componentes se crean y se dibujan en el EDT. Cada
+ * llamada dibuja un lote de {@code FRAMES_PER_CALL} fotogramas en un solo
+ * {@code invokeAndWait} y se cuenta como ese número de operaciones, para que
+ * el viaje al EDT y sus asignaciones no dominen los destinos baratos. Por eso
+ * los percentiles de {@link #frameTime()} son de la media de cada lote, no de
+ * fotogramas sueltos. El contexto de dibujado se crea una sola vez y, en el
+ * pipeline acelerado, cada fotograma termina con {@link Toolkit#sync()} para
+ * incluir el trabajo encolado en la GPU.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+    private static final String BUTTON = "BUTTON";
+    private static final int BUTTON_WIDTH = 200;
+    private static final int BUTTON_HEIGHT = 45;
+    private static final int FRAMES_PER_CALL = 16;
+    
+    @Param({"GAME", "MAIN_MENU", "THEMES", "DIFFICULTY", "INSTRUCTIONS", BUTTON})
+    public String target;
+    
+    @Param({"Classic", "Neon", "Retro", "Dark"})
+    public String theme;
+    
+    @Param({"software", "accelerated"})
+    public String pipeline;
+    
+    private GameController controller;
+    private JComponent component;
+    private boolean simulate;
+    
+    private JFrame host;
+    private GraphicsConfiguration config;
+    private BufferedImage softwareImage;
+    private VolatileImage acceleratedImage;
+    private Graphics2D g2d;
+    
+    // Se crea una vez para no asignar una lambda en cada llamada
+    private final Runnable batchTask = this::paintBatch;
+    
+    @Setup
+    public void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(this::setUpOnEdt);
+    }
+    
+    private void setUpOnEdt() {
+        GameModel model = new GameModel();
+        model.setDemoMode(true);
+        controller = new GameController(model);
+        Theme selectedTheme = controller.getThemeByName(theme);
+        controller.setTheme(selectedTheme);
+        
+        component = createComponent(selectedTheme);
+        int width = BUTTON.equals(target) ? BUTTON_WIDTH : PongGame.WIDTH;
+        int height = BUTTON.equals(target) ? BUTTON_HEIGHT : PongGame.HEIGHT;
+        component.setBounds(0, 0, width, height);
+        
+        if ("accelerated".equals(pipeline)) {
+            if (GraphicsEnvironment.isHeadless()) {
+                throw new IllegalStateException(
+                    "El pipeline acelerado necesita pantalla; usar -p pipeline=software");
+            }
+            host = new JFrame();
+            host.setUndecorated(true);
+            host.getContentPane().setLayout(null);
+            host.getContentPane().add(component);
+            // Crea los recursos nativos sin mostrar la ventana
+            host.addNotify();
+            config = component.getGraphicsConfiguration();
+            acceleratedImage = config.createCompatibleVolatileImage(width, height);
+        } else {
+            softwareImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        g2d = createTargetGraphics();
+        
+        // Cada pantalla solo recibe datos mientras es la actual
+        if (!BUTTON.equals(target)) {
+            model.setCurrentScreen(target);
+        }
+        simulate = "GAME".equals(target);
+        controller.syncViews();
+    }
+    
+    @TearDown
+    public void tearDown() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            if (g2d != null) {
+                g2d.dispose();
+            }
+            if (host != null) {
+                host.dispose();
+            }
+            if (acceleratedImage != null) {
+                acceleratedImage.flush();
+            }
+        });
+    }
+    
+    /**
+     * Contexto de dibujado del destino, reutilizado en todos los fotogramas
+     */
+    private Graphics2D createTargetGraphics() {
+        Graphics2D graphics = acceleratedImage != null ? acceleratedImage.createGraphics() : softwareImage.createGraphics();
+        // Sin pantalla no hay preferencias de escritorio: el texto se suaviza siempre
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return graphics;
+    }
+    
+    private JComponent createComponent(Theme selectedTheme) {
+        switch (target) {
+            case "GAME":
+                GameScreen gameScreen = new GameScreen(controller);
+                gameScreen.setInForeground(true);
+                return gameScreen;
+            case "MAIN_MENU":
+                return new MenuScreen(controller);
+            case "THEMES":
+                return new ThemeScreen(controller);
+            case "DIFFICULTY":
+                return new DifficultyScreen(controller);
+            case "INSTRUCTIONS":
+                return new InstructionsScreen(controller);
+            case BUTTON:
+                ModernButton button = new ModernButton("Iniciar Juego");
+                button.setButtonColor(new Color(selectedTheme.getButtonArgb(), true));
+                button.setTextColor(new Color(selectedTheme.getButtonTextArgb(), true));
+                return button;
+            default:
+                throw new IllegalArgumentException("Destino desconocido: " + target);
+        }
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(FRAMES_PER_CALL)
+    public void fps() throws Exception {
+        SwingUtilities.invokeAndWait(batchTask);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(FRAMES_PER_CALL)
+    public void frameTime() throws Exception {
+        SwingUtilities.invokeAndWait(batchTask);
+    }
+    
+    /**
+     * Dibuja un lote de fotogramas; se ejecuta en el EDT
+     */
+    private void paintBatch() {
+        for (int i = 0; i < FRAMES_PER_CALL; i++) {
+            paintFrame();
+        }
+    }
+    
+    /**
+     * Simula el tick, si procede, y dibuja un fotograma; se ejecuta en el EDT
+     */
+    private void paintFrame() {
+        if (simulate) {
+            controller.simulateTick();
+        }
+        
+        if (acceleratedImage != null
+                && acceleratedImage.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+            g2d.dispose();
+            acceleratedImage.flush();
+            acceleratedImage = config.createCompatibleVolatileImage(component.getWidth(), component.getHeight());
+            g2d = createTargetGraphics();
+        }
+        
+        component.paint(g2d);
+        
+        if (acceleratedImage != null) {
+            // El pipeline acelerado encola las operaciones: se espera a que se
+            // ejecuten para que el tiempo medido incluya el fotograma completo
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Núcleo del juego sin interfaz: modelo, física, IA y reglas.
+ * Solo necesita {@code java.base} y {@code jdk.jfr}, para que servidores y
+ * herramientas por lotes no carguen {@code java.desktop}.
+ */
+module pong.core {
+    // Los eventos exportados extienden jdk.jfr.Event
+    requires transitive jdk.jfr;
+
+    exports pong.game.model;
+    exports pong.game.engine;
+    exports pong.game.diagnostics.events;
+}
@@ -0,0 +1,36 @@
+package pong.game.diagnostics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR para la actualización de la paleta controlada por la IA
+ */
+@Name("pong.AI")
+@Label("Actualización de la IA")
+@Category({"Pong", "IA"})
+@Description("Cálculo del objetivo y movimiento de la paleta de la IA")
+public class AIEvent extends Event {
+    // Instancia que nunca se confirma: solo sirve para consultar si el evento está activo
+    private static final AIEvent PROBE = new AIEvent();
+    
+    /**
+     * Indica si alguna grabación JFR tiene activo este evento; sin grabación la
+     * IA no lo crea en cada tick
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+    
+    @Label("Dificultad")
+    public String difficulty;
+    
+    @Label("Velocidad de la pelota")
+    public float ballSpeed;
+    
+    @Label("Posición objetivo")
+    public int targetY;
+}
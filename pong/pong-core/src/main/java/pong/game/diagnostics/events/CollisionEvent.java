@@ -0,0 +1,33 @@
+package pong.game.diagnostics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR para la comprobación de colisiones entre pelota y paletas
+ */
+@Name("pong.Collision")
+@Label("Comprobación de colisiones")
+@Category({"Pong", "Física"})
+@Description("Comprobación de colisiones entre la pelota y las paletas")
+public class CollisionEvent extends Event {
+    // Instancia que nunca se confirma: solo sirve para consultar si el evento está activo
+    private static final CollisionEvent PROBE = new CollisionEvent();
+    
+    /**
+     * Indica si alguna grabación JFR tiene activo este evento, para no crearlo
+     * en cada comprobación de colisiones cuando no se graba
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+    
+    @Label("Velocidad de la pelota")
+    public float ballSpeed;
+    
+    @Label("Rebote en paleta")
+    public boolean deflected;
+}
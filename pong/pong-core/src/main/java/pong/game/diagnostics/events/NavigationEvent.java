@@ -0,0 +1,30 @@
+package pong.game.diagnostics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR para un cambio de pantalla
+ */
+@Name("pong.Navigation")
+@Label("Navegación")
+@Category({"Pong", "Navegación"})
+@Description("Cambio de pantalla notificado al NavigationListener")
+public class NavigationEvent extends Event {
+    // Instancia que nunca se confirma: solo sirve para consultar si el evento está activo
+    private static final NavigationEvent PROBE = new NavigationEvent();
+    
+    /**
+     * Indica si alguna grabación JFR tiene activo este evento; sin grabación
+     * el controlador no lo crea en cada cambio de pantalla
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+    
+    @Label("Pantalla destino")
+    public String screen;
+}
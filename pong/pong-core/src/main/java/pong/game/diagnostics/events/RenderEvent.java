@@ -0,0 +1,30 @@
+package pong.game.diagnostics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR para el dibujado de una pantalla
+ */
+@Name("pong.Render")
+@Label("Dibujado de pantalla")
+@Category({"Pong", "Renderizado"})
+@Description("Ejecución de paintComponent de una pantalla")
+public class RenderEvent extends Event {
+    // Instancia que nunca se confirma: solo sirve para consultar si el evento está activo
+    private static final RenderEvent PROBE = new RenderEvent();
+    
+    /**
+     * Indica si alguna grabación JFR tiene activo este evento; sin grabación
+     * las pantallas no lo crean en cada fotograma
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+    
+    @Label("Pantalla")
+    public String screen;
+}
@@ -0,0 +1,43 @@
+package pong.game.diagnostics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR que cubre una llamada completa a GameController.update()
+ */
+@Name("pong.Tick")
+@Label("Tick")
+@Category({"Pong", "Juego"})
+@Description("Actualización completa del modelo y de las vistas")
+public class TickEvent extends Event {
+    // Instancia que nunca se confirma: solo sirve para consultar si el evento está activo
+    private static final TickEvent PROBE = new TickEvent();
+    
+    /**
+     * Indica si alguna grabación JFR tiene activo este evento. Sin grabación el
+     * controlador no crea el evento y el tick no asigna memoria, aunque el JIT
+     * todavía no haya eliminado la asignación.
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+    
+    @Label("Pantalla")
+    public String screen;
+    
+    @Label("Dificultad")
+    public String difficulty;
+    
+    @Label("Velocidad de la pelota")
+    public float ballSpeed;
+    
+    @Label("Modo demo")
+    public boolean demoMode;
+    
+    @Label("En pausa")
+    public boolean paused;
+}
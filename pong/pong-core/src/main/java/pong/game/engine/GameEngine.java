@@ -0,0 +1,421 @@
+package pong.game.engine;
+
+import pong.game.diagnostics.events.AIEvent;
+import pong.game.diagnostics.events.CollisionEvent;
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+import pong.game.model.Paddle;
+
+/**
+ * Reglas, física e IA del juego sobre un {@link GameModel}.
+ * <p>
+ * No depende de Swing ni de {@code java.desktop}: el controlador de la
+ * aplicación llama a {@link #tick()} desde su bucle y cualquier herramienta
+ * sin ventana (servidores, simulaciones por lotes, benchmarks) puede hacer lo
+ * mismo. Todo el tiempo de juego se mide en ticks, no en tiempo de reloj.
+ */
+public class GameEngine {
+    // Constantes del juego
+    public static final int WINNING_SCORE = 10;
+    public static final int TICK_MS = 16;
+    public static final int SCORING_DELAY_TICKS = 1500 / TICK_MS; // ~1,5 s de pausa tras un punto
+    public static final int GOAL_BURST_PARTICLES = 160;
+    public static final int PADDLE_SPEED = 5;
+    private static final int GAME_WIDTH = GameModel.WIDTH;
+    private static final int GAME_HEIGHT = GameModel.HEIGHT;
+    private static final int CENTER_POSITION_X = GAME_WIDTH / 2;
+    private static final int CENTER_POSITION_Y = GAME_HEIGHT / 2;
+    
+    private final GameModel model;
+    
+    // Ticks que faltan para terminar la pausa tras un punto
+    private int scoringDelayRemaining;
+    
+    /**
+     * Crea el motor sobre el modelo indicado
+     */
+    public GameEngine(GameModel model) {
+        this.model = model;
+    }
+    
+    public GameModel getModel() {
+        return model;
+    }
+    
+    //region Tick
+    
+    /**
+     * Avanza el estado del juego un paso de {@link #TICK_MS} milisegundos
+     */
+    public void tick() {
+        // La pausa tras un punto corre también con el juego en pausa, como el temporizador al que sustituye
+        updateScoringDelay();
+        
+        if (model.isGamePaused()) {
+            return;
+        }
+        
+        // Los efectos avanzan antes de que la pelota emita los de este tick
+        model.getParticles().update();
+        
+        if (model.isDemoMode()) {
+            updateDemoMode();
+            return;
+        }
+        
+        model.getPlayerPaddle().update();
+        
+        if (!model.isGameRunning() || model.isGameOver()) {
+            if (model.isGameOver()) {
+                updateAIPaddleOnGameOver();
+            }
+            return;
+        }
+        
+        updateOpponentPaddle();
+        updateBallSpeed();
+        model.getBall().update();
+        checkCollision();
+        checkScoring();
+    }
+    
+    /**
+     * Velocidad efectiva de la pelota en píxeles por tick
+     */
+    public float getBallSpeed() {
+        Ball ball = model.getBall();
+        return (float) Math.hypot(ball.getXVelocity(), ball.getYVelocity()) * ball.getSpeedMultiplier();
+    }
+    
+    private void updateAIPaddleOnGameOver() {
+        model.getAiPaddle().setYVelocity(0);
+        model.getAiPaddle().update();
+    }
+    
+    private void updateOpponentPaddle() {
+        if (model.isMultiplayerMode()) {
+            model.getAiPaddle().update();
+        } else {
+            updateAIPaddle();
+        }
+    }
+    
+    //endregion
+    
+    //region Lógica de puntuación
+    
+    /**
+     * Verifica si algún jugador ha anotado
+     */
+    private void checkScoring() {
+        if (shouldSkipScoringCheck()) {
+            return;
+        }
+        
+        Ball ball = model.getBall();
+        
+        // El jugador anota
+        if (ball.getX() + ball.getWidth() >= GAME_WIDTH) {
+            handleScore("player", model.isMultiplayerMode() ? "Jugador 1" : "Tú");
+        }
+        // La IA anota
+        else if (ball.getX() <= 0) {
+            handleScore("ai", model.isMultiplayerMode() ? "Jugador 2" : "IA");
+        }
+    }
+    
+    private boolean shouldSkipScoringCheck() {
+        return model.isDemoMode() || model.isDelayAfterScore() ||
+               !model.isGameRunning() || model.isGamePaused();
+    }
+    
+    private void handleScore(String scorer, String winnerName) {
+        Ball ball = model.getBall();
+        model.getParticles().emitBurst(ball.x + ball.width / 2f, ball.y + ball.height / 2f, GOAL_BURST_PARTICLES);
+        
+        if ("player".equals(scorer)) {
+            model.incrementPlayerScore();
+            if (model.getPlayerScore() >= WINNING_SCORE) {
+                endGame(winnerName);
+            }
+        } else {
+            model.incrementAiScore();
+            if (model.getAiScore() >= WINNING_SCORE) {
+                endGame(winnerName);
+            }
+        }
+        
+        model.setLastScorer(scorer);
+        model.setDelayAfterScore(true);
+        resetBallAfterScoring();
+        scoringDelayRemaining = SCORING_DELAY_TICKS;
+    }
+    
+    private void endGame(String winnerName) {
+        model.setGameOver(true);
+        model.setWinner(winnerName);
+    }
+    
+    private void resetBallAfterScoring() {
+        Ball ball = model.getBall();
+        ball.setPosition((int)(CENTER_POSITION_X - ball.getWidth() / 2),
+                        (int)(CENTER_POSITION_Y - ball.getHeight() / 2));
+        ball.setXVelocity(0);
+        ball.setYVelocity(0);
+    }
+    
+    /**
+     * Cuenta los ticks de la pausa tras un punto y relanza la pelota al terminar
+     */
+    private void updateScoringDelay() {
+        if (scoringDelayRemaining == 0 || --scoringDelayRemaining > 0) {
+            return;
+        }
+        
+        model.setDelayAfterScore(false);
+        
+        if (!model.isGameOver()) {
+            model.getBall().reset();
+        }
+    }
+    
+    //endregion
+    
+    //region Lógica de juego
+    
+    /**
+     * Actualiza el modo demo del juego
+     */
+    private void updateDemoMode() {
+        if (!model.isGameRunning()) {
+            model.setGameRunning(true);
+        }
+        
+        model.getBall().update();
+        
+        updateDemoPaddle(model.getPlayerPaddle(), true);
+        updateDemoPaddle(model.getAiPaddle(), false);
+        
+        checkCollision();
+        handleDemoBallReset();
+    }
+    
+    private void handleDemoBallReset() {
+        Ball ball = model.getBall();
+        if (ball.getX() + ball.getWidth() >= GAME_WIDTH || ball.getX() <= 0) {
+            ball.reset();
+        }
+    }
+    
+    /**
+     * Actualiza una paleta en modo demo
+     */
+    private void updateDemoPaddle(Paddle paddle, boolean isLeftPaddle) {
+        Ball ball = model.getBall();
+        
+        int paddleCenterY = paddle.y + paddle.height / 2;
+        
+        boolean ballMovingTowardsPaddle = (isLeftPaddle && ball.getXVelocity() < 0) ||
+                                         (!isLeftPaddle && ball.getXVelocity() > 0);
+        
+        float reactionSpeed = 0.7f;
+        int targetY;
+        
+        if (ballMovingTowardsPaddle) {
+            float timeToIntercept;
+            
+            if (isLeftPaddle) {
+                timeToIntercept = Math.max(1, (paddle.x + paddle.width - ball.x) /
+                                Math.abs(ball.getXVelocity()));
+            } else {
+                timeToIntercept = Math.max(1, (ball.x - paddle.x) /
+                                Math.abs(ball.getXVelocity()));
+            }
+            
+            float predictedY = ball.y + (ball.getYVelocity() * timeToIntercept);
+            targetY = (int) predictedY + ball.height / 2;
+        } else {
+            targetY = GAME_HEIGHT / 2;
+        }
+        
+        // Asegurar que la paleta permanezca dentro de los límites
+        targetY = boundValue(targetY, paddle.height / 2, GAME_HEIGHT - paddle.height / 2);
+        
+        // Moverse hacia el objetivo
+        updatePaddleMovement(paddle, paddleCenterY, targetY, reactionSpeed);
+    }
+    
+    /**
+     * Actualiza la velocidad de la paleta para moverse hacia un objetivo
+     */
+    private void updatePaddleMovement(Paddle paddle, int currentY, int targetY, float speedFactor) {
+        if (currentY < targetY - 5) {
+            paddle.setYVelocity((int)(PADDLE_SPEED * speedFactor));
+        } else if (currentY > targetY + 5) {
+            paddle.setYVelocity((int)(-PADDLE_SPEED * speedFactor));
+        } else {
+            paddle.setYVelocity(0);
+        }
+        
+        paddle.update();
+    }
+    
+    /**
+     * Mantiene un valor dentro de los límites min y max
+     */
+    private int boundValue(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+    
+    /**
+     * Actualiza la velocidad de la pelota según la dificultad
+     */
+    private void updateBallSpeed() {
+        Ball ball = model.getBall();
+        
+        if (model.getCurrentDifficulty() == GameModel.Difficulty.HARD && !model.isMultiplayerMode()) {
+            ball.setSpeedMultiplier(1.2f);
+        } else {
+            ball.setSpeedMultiplier(1.0f);
+        }
+    }
+    
+    /**
+     * Verifica colisiones entre la pelota y las paletas
+     */
+    private void checkCollision() {
+        CollisionEvent event = CollisionEvent.isRecording() ? new CollisionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        Ball ball = model.getBall();
+        Paddle playerPaddle = model.getPlayerPaddle();
+        Paddle aiPaddle = model.getAiPaddle();
+        boolean deflected = false;
+        
+        if (playerPaddle.intersects(ball)) {
+            ball.deflectFromPaddle(playerPaddle);
+            deflected = true;
+        }
+        
+        if (aiPaddle.intersects(ball)) {
+            ball.deflectFromPaddle(aiPaddle);
+            deflected = true;
+        }
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.ballSpeed = getBallSpeed();
+                event.deflected = deflected;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Actualiza la IA del oponente
+     */
+    private void updateAIPaddle() {
+        AIEvent event = AIEvent.isRecording() ? new AIEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        Ball ball = model.getBall();
+        Paddle aiPaddle = model.getAiPaddle();
+        
+        int aiPaddleCenterY = aiPaddle.y + aiPaddle.height / 2;
+        
+        DifficultySettings settings = getDifficultySettings(model.getCurrentDifficulty());
+        
+        int targetY = calculateAITargetPosition(ball, aiPaddle, settings.predictFactor);
+        targetY = boundValue(targetY, aiPaddle.height / 2, GAME_HEIGHT - aiPaddle.height / 2);
+        
+        int distanceToTarget = targetY - aiPaddleCenterY;
+        
+        if (Math.abs(distanceToTarget) > settings.deadZone) {
+            aiPaddle.setYVelocity((int)(Math.signum(distanceToTarget) * PADDLE_SPEED * settings.reactionSpeed));
+        } else {
+            aiPaddle.setYVelocity(0);
+        }
+        
+        aiPaddle.update();
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.difficulty = model.getCurrentDifficulty().name();
+                event.ballSpeed = getBallSpeed();
+                event.targetY = targetY;
+                event.commit();
+            }
+        }
+    }
+    
+    private int calculateAITargetPosition(Ball ball, Paddle aiPaddle, float predictFactor) {
+        int ballCenterY = ball.y + ball.height / 2;
+        
+        if (ball.getXVelocity() > 0) {
+            float timeToIntercept = Math.max(1, (aiPaddle.x - ball.x - ball.width) /
+                                Math.abs(ball.getXVelocity()));
+            float predictedY = ball.y + (ball.getYVelocity() * timeToIntercept);
+            return (int)((predictedY + ball.height / 2) * predictFactor + ballCenterY * (1 - predictFactor));
+        } else {
+            return GAME_HEIGHT / 2;
+        }
+    }
+    
+    /**
+     * Configuración para los diferentes niveles de dificultad
+     */
+    private static final class DifficultySettings {
+        // Creadas una sola vez: la IA no asigna memoria en cada tick
+        static final DifficultySettings EASY = new DifficultySettings(0.5f, 0.5f, 10);
+        static final DifficultySettings MEDIUM = new DifficultySettings(0.7f, 0.7f, 7);
+        static final DifficultySettings HARD = new DifficultySettings(0.9f, 0.9f, 3);
+        
+        final float reactionSpeed;
+        final float predictFactor;
+        final int deadZone;
+        
+        DifficultySettings(float reactionSpeed, float predictFactor, int deadZone) {
+            this.reactionSpeed = reactionSpeed;
+            this.predictFactor = predictFactor;
+            this.deadZone = deadZone;
+        }
+    }
+    
+    private DifficultySettings getDifficultySettings(GameModel.Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY:
+                return DifficultySettings.EASY;
+            case HARD:
+                return DifficultySettings.HARD;
+            case MEDIUM:
+            default:
+                return DifficultySettings.MEDIUM;
+        }
+    }
+    
+    //endregion
+    
+    /**
+     * Prepara el modelo para una partida nueva
+     */
+    public void startGame() {
+        model.getBall().reset();
+        model.getParticles().clear();
+        model.getPlayerPaddle().reset();
+        model.getAiPaddle().reset();
+        
+        model.setPlayerScore(0);
+        model.setAiScore(0);
+        model.setGameRunning(true);
+        model.setGameOver(false);
+        model.setWinner("");
+        model.setGamePaused(false);
+        model.setDemoMode(false);
+    }
+}
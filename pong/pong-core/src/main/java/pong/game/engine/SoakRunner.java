@@ -0,0 +1,402 @@
+package pong.game.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import pong.game.model.Ball;
+import pong.game.model.GameModel;
+import pong.game.model.Paddle;
+
+/**
+ * Prueba de resistencia de la física sin ventana: simula partidas sin parar
+ * en todos los núcleos y comprueba invariantes después de cada tick.
+ * <p>
+ * Uso: {@code SoakRunner [ticks] [semilla]}, por ejemplo
+ * <pre>
+ *   java -cp pong-core/target/pong-core-1.0-SNAPSHOT.jar pong.game.engine.SoakRunner 500000000
+ * </pre>
+ * Cada partida se deriva de su propia semilla: dificultad, modo (contra la IA
+ * o dos jugadores), la habilidad de los jugadores simulados, sus pausas y los
+ * saques de la pelota. Se comprueba tras cada tick que:
+ * <ul>
+ *   <li>la pelota no sale del campo ({@code 0 <= y <= HEIGHT - alto}, y en
+ *       horizontal solo fuera de la partida)</li>
+ *   <li>las paletas siguen en su columna y dentro de los límites</li>
+ *   <li>los marcadores solo crecen, de uno en uno y sin pasar de
+ *       {@link GameEngine#WINNING_SCORE}</li>
+ *   <li>la velocidad de la pelota es finita</li>
+ * </ul>
+ * Ante una violación se escribe la semilla de la partida y el estado en ese
+ * tick, y el proceso termina con código 1. La partida se repite con
+ * {@code -Dpong.soakReplay=<semilla>}, que además informa de cada violación.
+ * <p>
+ * Otras propiedades del sistema:
+ * <ul>
+ *   <li>{@code pong.soakThreads}: hilos de simulación (uno por núcleo por defecto)</li>
+ *   <li>{@code pong.soakEffects}: simula también las partículas (desactivadas
+ *       por defecto; no influyen en la física)</li>
+ * </ul>
+ */
+public class SoakRunner {
+    private static final long DEFAULT_TICKS = 100_000_000L;
+    
+    // Límite por partida, por si los dos jugadores no fallaran nunca
+    private static final int MAX_MATCH_TICKS = 2_000_000;
+    private static final int MAX_REPORTED_VIOLATIONS = 50;
+    private static final long PROGRESS_INTERVAL_MS = 10_000;
+    
+    // Probabilidad por tick de que el jugador simulado pause la partida
+    private static final int PAUSE_ONE_IN = 20_000;
+    private static final int MAX_PAUSE_TICKS = 200;
+    
+    // Despistes de los jugadores simulados (en ticks de reacción): sin ellos, con la pelota a velocidad
+    // máxima y casi horizontal, un intercambio puede no acabar nunca
+    private static final int LAPSE_ONE_IN = 3_000;
+    private static final int MIN_LAPSE_TICKS = 20;
+    private static final int MAX_LAPSE_TICKS = 120;
+    
+    private static final GameModel.Difficulty[] DIFFICULTIES = GameModel.Difficulty.values();
+    
+    private final long targetTicks;
+    private final long baseSeed;
+    private final boolean effects;
+    
+    // Reparto del trabajo y resultados compartidos entre hilos
+    private final AtomicLong nextMatch = new AtomicLong();
+    private final LongAdder ticksDone = new LongAdder();
+    private final LongAdder matchesDone = new LongAdder();
+    private final LongAdder matchesCapped = new LongAdder();
+    private final AtomicLong violationCount = new AtomicLong();
+    
+    SoakRunner(long targetTicks, long baseSeed, boolean effects) {
+        this.targetTicks = targetTicks;
+        this.baseSeed = baseSeed;
+        this.effects = effects;
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        boolean effects = Boolean.getBoolean("pong.soakEffects");
+        
+        String replay = System.getProperty("pong.soakReplay");
+        if (replay != null) {
+            System.exit(replay(Long.parseLong(replay), effects) ? 0 : 1);
+        }
+        
+        long ticks;
+        long seed;
+        try {
+            ticks = args.length > 0 ? Long.parseLong(args[0].replace("_", "")) : DEFAULT_TICKS;
+            seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        } catch (NumberFormatException e) {
+            System.err.println("Uso: SoakRunner [ticks] [semilla]");
+            System.exit(1);
+            return;
+        }
+        int threads = Math.max(1, Integer.getInteger("pong.soakThreads", Runtime.getRuntime().availableProcessors()));
+        
+        SoakRunner runner = new SoakRunner(ticks, seed, effects);
+        boolean passed = runner.run(threads);
+        System.exit(passed ? 0 : 1);
+    }
+    
+    /**
+     * Simula partidas en {@code threads} hilos hasta alcanzar los ticks pedidos
+     * @return true si no hubo ninguna violación
+     */
+    boolean run(int threads) throws InterruptedException {
+        System.out.printf("Prueba de resistencia: %,d ticks en %d hilos, semilla base %d%s%n",
+            targetTicks, threads, baseSeed, effects ? ", con partículas" : "");
+        
+        Worker[] workers = new Worker[threads];
+        List<Thread> started = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+            Thread thread = new Thread(workers[i], "pong-soak-" + i);
+            thread.start();
+            started.add(thread);
+        }
+        
+        long lastTicks = 0;
+        long lastReport = start;
+        for (Thread thread : started) {
+            while (thread.isAlive()) {
+                thread.join(PROGRESS_INTERVAL_MS);
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL_MS * 1_000_000L) {
+                    long ticks = ticksDone.sum();
+                    System.out.printf("  %,d ticks (%.1f%%), %,.0f ticks/s, %d violaciones%n",
+                        ticks, 100.0 * ticks / targetTicks, (ticks - lastTicks) / ((now - lastReport) / 1e9),
+                        violationCount.get());
+                    lastTicks = ticks;
+                    lastReport = now;
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        
+        long ticks = ticksDone.sum();
+        System.out.printf("%,d ticks, %,d partidas (%,d cortadas a %,d ticks) en %.1f s%n",
+            ticks, matchesDone.sum(), matchesCapped.sum(), MAX_MATCH_TICKS, seconds);
+        System.out.printf("Rendimiento: %,.0f ticks/s en total, %,.0f ticks/s por hilo%n",
+            ticks / seconds, ticks / seconds / threads);
+        for (int i = 0; i < threads; i++) {
+            System.out.printf("  hilo %d: %,d ticks, %,.0f ticks/s%n",
+                i, workers[i].ticks, workers[i].ticks / (workers[i].nanos / 1e9));
+        }
+        
+        long count = violationCount.get();
+        if (count == 0) {
+            System.out.println("Sin violaciones");
+            return true;
+        }
+        System.out.printf("%d violaciones; repetir una partida con -Dpong.soakReplay=<semilla>%n", count);
+        return false;
+    }
+    
+    /**
+     * Semilla de la partida {@code index}: splitmix64 sobre la semilla base,
+     * para que partidas consecutivas no estén correlacionadas
+     */
+    private long matchSeed(long index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private void reportViolation(Match match, String message) {
+        long count = violationCount.incrementAndGet();
+        String line = String.format("Violación en la partida %d, tick %d: %s [%s]",
+            match.seed, match.ticks, message, match.describe());
+        if (count <= MAX_REPORTED_VIOLATIONS) {
+            System.err.println(line);
+        }
+    }
+    
+    /**
+     * Repite una partida y escribe cada violación y el resultado final
+     * @return true si no hubo ninguna violación
+     */
+    private static boolean replay(long seed, boolean effects) {
+        List<String> found = new ArrayList<>();
+        Match match = new Match(seed, effects);
+        System.out.println("Repitiendo la partida " + seed + ": " + match.describe());
+        while (match.step()) {
+            String violation = match.checkInvariants();
+            if (violation != null) {
+                found.add(violation);
+                if (found.size() <= MAX_REPORTED_VIOLATIONS) {
+                    System.out.printf("Tick %d: %s [%s]%n", match.ticks, violation, match.describe());
+                }
+            }
+        }
+        System.out.printf("Fin tras %,d ticks con %d violaciones: %s%n", match.ticks, found.size(), match.describe());
+        return found.isEmpty();
+    }
+    
+    /**
+     * Hilo de simulación: toma partidas hasta que se alcanza el total de ticks
+     */
+    private final class Worker implements Runnable {
+        // Solo se leen después de join()
+        long ticks;
+        long nanos;
+        
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            while (ticksDone.sum() < targetTicks) {
+                Match match = new Match(matchSeed(nextMatch.getAndIncrement()), effects);
+                while (match.step()) {
+                    String violation = match.checkInvariants();
+                    if (violation != null) {
+                        // El resto de la partida ya no es fiable: se pasa a la siguiente
+                        reportViolation(match, violation);
+                        break;
+                    }
+                }
+                if (match.ticks >= MAX_MATCH_TICKS) {
+                    matchesCapped.increment();
+                }
+                ticks += match.ticks;
+                ticksDone.add(match.ticks);
+                matchesDone.increment();
+            }
+            nanos = System.nanoTime() - start;
+        }
+    }
+    
+    /**
+     * Una partida determinada por su semilla, con sus jugadores simulados y
+     * el estado que necesitan los invariantes entre un tick y el siguiente
+     */
+    private static final class Match {
+        final long seed;
+        final GameModel model;
+        final GameEngine engine;
+        final boolean multiplayer;
+        
+        // Jugadores simulados
+        private final SplittableRandom input;
+        private final int tolerance;
+        private final int speed;
+        private final int reactionTicks;
+        private int pauseRemaining;
+        private final int[] lapseRemaining = new int[2];
+        
+        // Posición fija de las paletas y marcadores del tick anterior
+        private final int playerPaddleX;
+        private final int aiPaddleX;
+        private int lastPlayerScore;
+        private int lastAiScore;
+        
+        int ticks;
+        
+        Match(long seed, boolean effects) {
+            this.seed = seed;
+            input = new SplittableRandom(seed);
+            
+            model = new GameModel();
+            model.setSeed(input.nextLong());
+            model.setCurrentDifficulty(DIFFICULTIES[input.nextInt(DIFFICULTIES.length)]);
+            multiplayer = input.nextInt(4) == 0;
+            model.setMultiplayerMode(multiplayer);
+            if (!effects) {
+                model.getBall().setEffects(null);
+                model.getParticles().setLimit(0);
+            }
+            
+            tolerance = 10 + input.nextInt(50);
+            speed = 2 + input.nextInt(3);
+            reactionTicks = 1 + input.nextInt(8);
+            
+            engine = new GameEngine(model);
+            engine.startGame();
+            playerPaddleX = model.getPlayerPaddle().x;
+            aiPaddleX = model.getAiPaddle().x;
+        }
+        
+        /**
+         * Simula un tick con las entradas de los jugadores
+         * @return false si la partida ya había terminado
+         */
+        boolean step() {
+            if (model.isGameOver() || ticks >= MAX_MATCH_TICKS) {
+                return false;
+            }
+            
+            simulateInput();
+            engine.tick();
+            ticks++;
+            return true;
+        }
+        
+        private void simulateInput() {
+            if (pauseRemaining > 0) {
+                if (--pauseRemaining == 0) {
+                    model.setGamePaused(false);
+                }
+                return;
+            }
+            if (input.nextInt(PAUSE_ONE_IN) == 0) {
+                pauseRemaining = 1 + input.nextInt(MAX_PAUSE_TICKS);
+                model.setGamePaused(true);
+                return;
+            }
+            
+            // Cada jugador solo corrige su paleta cada pocos ticks, como una persona
+            if (ticks % reactionTicks == 0) {
+                steer(model.getPlayerPaddle(), 0);
+                if (multiplayer) {
+                    steer(model.getAiPaddle(), 1);
+                }
+            }
+        }
+        
+        private void steer(Paddle paddle, int player) {
+            if (lapseRemaining[player] > 0) {
+                lapseRemaining[player]--;
+                return;
+            }
+            if (input.nextInt(LAPSE_ONE_IN) == 0) {
+                // Durante el despiste la paleta sigue en una dirección cualquiera
+                lapseRemaining[player] = MIN_LAPSE_TICKS + input.nextInt(MAX_LAPSE_TICKS - MIN_LAPSE_TICKS);
+                paddle.setYVelocity(input.nextBoolean() ? speed : -speed);
+                return;
+            }
+            
+            Ball ball = model.getBall();
+            int error = (ball.y + ball.height / 2) - (paddle.y + paddle.height / 2) + input.nextInt(21) - 10;
+            paddle.setYVelocity(Math.abs(error) < tolerance ? 0 : Integer.signum(error) * speed);
+        }
+        
+        /**
+         * @return descripción de la primera violación encontrada, o null si se cumplen todos
+         */
+        String checkInvariants() {
+            Ball ball = model.getBall();
+            if (ball.y < 0 || ball.y > GameModel.HEIGHT - ball.height) {
+                return "pelota fuera en vertical";
+            }
+            // Tras un punto la pelota vuelve al centro en el mismo tick
+            if (ball.x <= 0 || ball.x + ball.width >= GameModel.WIDTH) {
+                return "pelota fuera en horizontal";
+            }
+            if (!Float.isFinite(ball.getXVelocity()) || !Float.isFinite(ball.getYVelocity())
+                    || !Float.isFinite(ball.getSpeedMultiplier())) {
+                return "velocidad de la pelota no finita";
+            }
+            
+            String paddleViolation = checkPaddle(model.getPlayerPaddle(), playerPaddleX, "jugador");
+            if (paddleViolation == null) {
+                paddleViolation = checkPaddle(model.getAiPaddle(), aiPaddleX, "rival");
+            }
+            if (paddleViolation != null) {
+                return paddleViolation;
+            }
+            
+            int playerScore = model.getPlayerScore();
+            int aiScore = model.getAiScore();
+            int playerDelta = playerScore - lastPlayerScore;
+            int aiDelta = aiScore - lastAiScore;
+            lastPlayerScore = playerScore;
+            lastAiScore = aiScore;
+            if (playerDelta < 0 || aiDelta < 0) {
+                return "un marcador ha disminuido";
+            }
+            if (playerDelta + aiDelta > 1) {
+                return "más de un punto en un tick";
+            }
+            if (playerScore > GameEngine.WINNING_SCORE || aiScore > GameEngine.WINNING_SCORE) {
+                return "marcador por encima del máximo";
+            }
+            if (model.isGameOver() != (Math.max(playerScore, aiScore) == GameEngine.WINNING_SCORE)) {
+                return "fin de partida sin coincidir con el marcador";
+            }
+            return null;
+        }
+        
+        private static String checkPaddle(Paddle paddle, int expectedX, String name) {
+            if (paddle.x != expectedX) {
+                return "la paleta del " + name + " ha cambiado de columna";
+            }
+            if (paddle.y < 0 || paddle.y > GameModel.HEIGHT - paddle.height) {
+                return "paleta del " + name + " fuera de los límites";
+            }
+            return null;
+        }
+        
+        String describe() {
+            Ball ball = model.getBall();
+            return String.format("%s, %s, marcador %d-%d, pelota (%d, %d) v=(%.2f, %.2f)x%.2f, paletas %d/%d%s",
+                model.getCurrentDifficulty(), multiplayer ? "dos jugadores" : "contra la IA",
+                model.getPlayerScore(), model.getAiScore(), ball.x, ball.y,
+                ball.getXVelocity(), ball.getYVelocity(), ball.getSpeedMultiplier(),
+                model.getPlayerPaddle().y, model.getAiPaddle().y, model.isGamePaused() ? ", en pausa" : "");
+        }
+    }
+}
@@ -1,26 +1,27 @@
 package pong.game.model;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Rectangle;
-
-import pong.game.view.PongGame;
+import java.util.SplittableRandom;
 
 /**
  * Representa la pelota en el juego de pong
  */
-public class Ball extends Rectangle {
+public class Ball extends GameObject {
     // Constantes
     private static final float MAX_SPEED = 15.0f;
     private static final float DEFAULT_SPEED = 4.0f;
     private static final float BOUNCE_ANGLE_FACTOR = 0.75f;
     private static final float SPEED_INCREASE_FACTOR = 1.08f;
+    private static final int WALL_SPARKS = 10;
+    private static final int PADDLE_SPARKS = 24;
     
     // Variables de estado
     private float xVelocity = DEFAULT_SPEED;  
     private float yVelocity = DEFAULT_SPEED;
     private float speedMultiplier = 1.0f;
-    private Color color = Color.WHITE;
+    private ParticleSystem effects;
+    
+    // Generador de la dirección de saque; sin semilla se usa Math.random()
+    private SplittableRandom random;
     
     /**
      * Crea una nueva pelota en la posición especificada
@@ -32,17 +33,22 @@ public class Ball extends Rectangle {
         super(x, y, size, size);
         reset();
     }
-
+    
     /**
      * Reinicia la pelota a su posición inicial y aleatoriza la dirección
      */
     public void reset() {
-        x = PongGame.WIDTH / 2 - width / 2;
-        y = PongGame.HEIGHT / 2 - height / 2;
+        x = GameModel.WIDTH / 2 - width / 2;
+        y = GameModel.HEIGHT / 2 - height / 2;
         
         // Aleatoriza la dirección inicial
-        xVelocity = (Math.random() > 0.5 ? 1 : -1) * DEFAULT_SPEED;
-        yVelocity = (Math.random() > 0.5 ? 1 : -1) * DEFAULT_SPEED;
+        xVelocity = randomSign() * DEFAULT_SPEED;
+        yVelocity = randomSign() * DEFAULT_SPEED;
+    }
+    
+    private int randomSign() {
+        boolean positive = random != null ? random.nextBoolean() : Math.random() > 0.5;
+        return positive ? 1 : -1;
     }
     
     /**
@@ -61,10 +67,21 @@ public class Ball extends Rectangle {
         if (y <= 0) {
             y = 0;
             yVelocity = Math.abs(yVelocity);
+            if (effects != null) {
+                effects.emitSparks(x + width / 2f, 0, 0, 1, WALL_SPARKS);
+            }
         }
-        if (y >= PongGame.HEIGHT - height) {
-            y = PongGame.HEIGHT - height;
+        if (y >= GameModel.HEIGHT - height) {
+            y = GameModel.HEIGHT - height;
             yVelocity = -Math.abs(yVelocity);
+            if (effects != null) {
+                effects.emitSparks(x + width / 2f, GameModel.HEIGHT, 0, -1, WALL_SPARKS);
+            }
+        }
+        
+        // Estela, solo mientras la pelota se mueve
+        if (effects != null && (actualXVelocity != 0 || actualYVelocity != 0)) {
+            effects.emitTrail(x + width / 2f, y + height / 2f);
         }
     }
     
@@ -90,24 +107,21 @@ public class Ball extends Rectangle {
         }
         
         // Evita que la pelota se quede atrapada en la paleta
-        if (paddle.x < PongGame.WIDTH / 2) {
+        if (paddle.x < GameModel.WIDTH / 2) {
             // Paleta izquierda
             x = paddle.x + paddle.width;
         } else {
             // Paleta derecha
             x = paddle.x - width;
         }
+        
+        // Chispas desde el punto de contacto hacia donde sale la pelota
+        if (effects != null) {
+            float contactX = paddle.x < GameModel.WIDTH / 2 ? x : x + width;
+            effects.emitSparks(contactX, y + height / 2f, Math.signum(xVelocity), 0, PADDLE_SPARKS);
+        }
     }
     
-    /**
-     * Dibuja la pelota
-     * @param g contexto gráfico donde dibujar
-     */
-    public void draw(Graphics g) {
-        g.setColor(color);
-        g.fillOval(x, y, width, height);
-    }
-
     // Getters y setters
     
     public float getSpeedMultiplier() {
@@ -118,8 +132,22 @@ public class Ball extends Rectangle {
         this.speedMultiplier = multiplier;
     }
     
-    public void setColor(Color color) {
-        this.color = color;
+    /**
+     * Establece el sistema de partículas que recibe la estela y las chispas
+     * @param effects sistema de partículas, o null para no emitir efectos
+     */
+    public void setEffects(ParticleSystem effects) {
+        this.effects = effects;
+    }
+    
+    /**
+     * Fija la semilla de la dirección de saque para poder repetir una partida.
+     * Además evita el generador compartido de Math.random(), que se disputan
+     * los hilos cuando hay varias partidas simulándose a la vez.
+     * @param seed semilla del generador
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
     }
     
     public float getXVelocity() {
@@ -1,12 +1,18 @@
 package pong.game.model;
 
+import java.util.Objects;
+
 /**
  * Main model that maintains the game state
  */
 public class GameModel {
     // Constants
-    private static final int WIDTH = 800;
-    private static final int HEIGHT = 600;
+    /** Width of the playing field in logical pixels */
+    public static final int WIDTH = 800;
+    
+    /** Height of the playing field in logical pixels */
+    public static final int HEIGHT = 600;
+    
     private static final int PADDLE_WIDTH = 15;
     private static final int PADDLE_HEIGHT = 80;
     private static final int PADDLE_OFFSET = 30;
@@ -26,13 +32,22 @@ public class GameModel {
     private boolean isDemoMode = false;
     private boolean isDelayAfterScore = false;
     
+    // Debug flags
+    private boolean performanceOverlayVisible = false;
+    private boolean captureActive = false;
+    
     // Navigation state
     private String currentScreen = "MAIN_MENU";
     
+    // Change tracking: counters bumped whenever a field shown by the views changes
+    private long configVersion = 0; // theme, difficulty, game mode
+    private long stateVersion = 0;  // scores and game flags
+    
     // Game objects
     private Ball ball;
     private Paddle playerPaddle;
     private Paddle aiPaddle;
+    private final ParticleSystem particles = new ParticleSystem();
     
     // Game configuration
     private Theme currentTheme;
@@ -54,16 +69,14 @@ public class GameModel {
             PADDLE_OFFSET, 
             HEIGHT / 2 - PADDLE_HEIGHT / 2, 
             PADDLE_WIDTH, 
-            PADDLE_HEIGHT, 
-            currentTheme.getPaddleColor()
+            PADDLE_HEIGHT
         );
         
         aiPaddle = new Paddle(
             WIDTH - PADDLE_OFFSET - PADDLE_WIDTH, 
             HEIGHT / 2 - PADDLE_HEIGHT / 2, 
             PADDLE_WIDTH, 
-            PADDLE_HEIGHT, 
-            currentTheme.getPaddleColor()
+            PADDLE_HEIGHT
         );
         
         ball = new Ball(
@@ -71,45 +84,87 @@ public class GameModel {
             HEIGHT / 2, 
             BALL_SIZE
         );
-        ball.setColor(currentTheme.getBallColor());
+        ball.setEffects(particles);
+        particles.setLimit(currentTheme.getMaxParticles());
+    }
+    
+    /**
+     * Seeds every random source of the model (serve direction and particles)
+     * so that a match driven by the same inputs can be replayed exactly
+     */
+    public void setSeed(long seed) {
+        ball.setSeed(seed);
+        particles.setSeed((int) (seed ^ (seed >>> 32)));
     }
     
     // Score methods
     public void incrementPlayerScore() {
         playerScore++;
+        stateVersion++;
     }
     
     public void incrementAiScore() {
         aiScore++;
+        stateVersion++;
     }
-
+    
+    // Change tracking
+    /**
+     * Version of the configuration (theme, difficulty, multiplayer mode).
+     * Views can skip updates while it stays the same.
+     */
+    public long getConfigVersion() { return configVersion; }
+    
+    /**
+     * Version of the scores and game flags shown by the views
+     */
+    public long getStateVersion() { return stateVersion; }
+    
+    private void stateChanged(boolean changed) {
+        if (changed) {
+            stateVersion++;
+        }
+    }
+    
+    private void configChanged(boolean changed) {
+        if (changed) {
+            configVersion++;
+        }
+    }
+    
     // Getters and setters grouped by category
     // Score getters/setters
     public int getPlayerScore() { return playerScore; }
-    public void setPlayerScore(int playerScore) { this.playerScore = playerScore; }
+    public void setPlayerScore(int playerScore) { stateChanged(this.playerScore != playerScore); this.playerScore = playerScore; }
     public int getAiScore() { return aiScore; }
-    public void setAiScore(int aiScore) { this.aiScore = aiScore; }
+    public void setAiScore(int aiScore) { stateChanged(this.aiScore != aiScore); this.aiScore = aiScore; }
     public String getLastScorer() { return lastScorer; }
-    public void setLastScorer(String scorer) { this.lastScorer = scorer; }
+    public void setLastScorer(String scorer) { stateChanged(!Objects.equals(lastScorer, scorer)); this.lastScorer = scorer; }
     
     // Game state getters/setters
     public boolean isGameRunning() { return gameRunning; }
-    public void setGameRunning(boolean gameRunning) { this.gameRunning = gameRunning; }
+    public void setGameRunning(boolean gameRunning) { stateChanged(this.gameRunning != gameRunning); this.gameRunning = gameRunning; }
     public boolean isGamePaused() { return gamePaused; }
-    public void setGamePaused(boolean gamePaused) { this.gamePaused = gamePaused; }
+    public void setGamePaused(boolean gamePaused) { stateChanged(this.gamePaused != gamePaused); this.gamePaused = gamePaused; }
     public boolean isGameOver() { return gameOver; }
-    public void setGameOver(boolean gameOver) { this.gameOver = gameOver; }
+    public void setGameOver(boolean gameOver) { stateChanged(this.gameOver != gameOver); this.gameOver = gameOver; }
     public String getWinner() { return winner; }
-    public void setWinner(String winner) { this.winner = winner; }
+    public void setWinner(String winner) { stateChanged(!Objects.equals(this.winner, winner)); this.winner = winner; }
     public boolean isDelayAfterScore() { return isDelayAfterScore; }
-    public void setDelayAfterScore(boolean isDelayAfterScore) { this.isDelayAfterScore = isDelayAfterScore; }
+    public void setDelayAfterScore(boolean isDelayAfterScore) { stateChanged(this.isDelayAfterScore != isDelayAfterScore); this.isDelayAfterScore = isDelayAfterScore; }
     
     // Game mode getters/setters
     public boolean isMultiplayerMode() { return isMultiplayerMode; }
-    public void setMultiplayerMode(boolean isMultiplayerMode) { this.isMultiplayerMode = isMultiplayerMode; }
+    public void setMultiplayerMode(boolean isMultiplayerMode) { configChanged(this.isMultiplayerMode != isMultiplayerMode); this.isMultiplayerMode = isMultiplayerMode; }
     public boolean isDemoMode() { return isDemoMode; }
     public void setDemoMode(boolean isDemoMode) { this.isDemoMode = isDemoMode; }
     
+    // Debug getters/setters
+    public boolean isPerformanceOverlayVisible() { return performanceOverlayVisible; }
+    public void setPerformanceOverlayVisible(boolean visible) { stateChanged(this.performanceOverlayVisible != visible); this.performanceOverlayVisible = visible; }
+    public boolean isCaptureActive() { return captureActive; }
+    public void setCaptureActive(boolean active) { stateChanged(this.captureActive != active); this.captureActive = active; }
+    
     // Navigation getters/setters
     public String getCurrentScreen() { return currentScreen; }
     public void setCurrentScreen(String currentScreen) { this.currentScreen = currentScreen; }
@@ -118,26 +173,16 @@ public class GameModel {
     public Ball getBall() { return ball; }
     public Paddle getPlayerPaddle() { return playerPaddle; }
     public Paddle getAiPaddle() { return aiPaddle; }
+    public ParticleSystem getParticles() { return particles; }
     
     // Configuration getters/setters
     public Theme getCurrentTheme() { return currentTheme; }
     public void setCurrentTheme(Theme currentTheme) {
+        configChanged(this.currentTheme != currentTheme);
         this.currentTheme = currentTheme;
-        updateGameObjectColors();
-    }
-    
-    private void updateGameObjectColors() {
-        if (playerPaddle != null) {
-            playerPaddle.setColor(currentTheme.getPaddleColor());
-        }
-        if (aiPaddle != null) {
-            aiPaddle.setColor(currentTheme.getPaddleColor());
-        }
-        if (ball != null) {
-            ball.setColor(currentTheme.getBallColor());
-        }
+        particles.setLimit(currentTheme.getMaxParticles());
     }
     
     public Difficulty getCurrentDifficulty() { return currentDifficulty; }
-    public void setCurrentDifficulty(Difficulty currentDifficulty) { this.currentDifficulty = currentDifficulty; }
+    public void setCurrentDifficulty(Difficulty currentDifficulty) { configChanged(this.currentDifficulty != currentDifficulty); this.currentDifficulty = currentDifficulty; }
 }
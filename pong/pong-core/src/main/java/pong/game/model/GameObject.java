@@ -0,0 +1,58 @@
+package pong.game.model;
+
+/**
+ * Rectángulo de colisión de los objetos del juego.
+ * <p>
+ * Sustituye a {@code java.awt.Rectangle} para que el modelo no dependa de
+ * {@code java.desktop}: conserva los campos públicos y la semántica de
+ * {@code getX()} e {@code intersects()} que usaba el resto del juego.
+ */
+public class GameObject {
+    public int x;
+    public int y;
+    public int width;
+    public int height;
+    
+    /**
+     * Crea un objeto con la posición y el tamaño indicados
+     */
+    public GameObject(int x, int y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+    
+    /**
+     * Indica si los dos rectángulos se solapan, con la misma regla de bordes
+     * que {@code java.awt.Rectangle#intersects}
+     */
+    public boolean intersects(GameObject other) {
+        int thisWidth = width;
+        int thisHeight = height;
+        int otherWidth = other.width;
+        int otherHeight = other.height;
+        if (otherWidth <= 0 || otherHeight <= 0 || thisWidth <= 0 || thisHeight <= 0) {
+            return false;
+        }
+        
+        // Se comparan los extremos; las comprobaciones "< inicio" cubren el desbordamiento
+        int thisX = x;
+        int thisY = y;
+        int otherX = other.x;
+        int otherY = other.y;
+        otherWidth += otherX;
+        otherHeight += otherY;
+        thisWidth += thisX;
+        thisHeight += thisY;
+        return (otherWidth < otherX || otherWidth > thisX)
+            && (otherHeight < otherY || otherHeight > thisY)
+            && (thisWidth < thisX || thisWidth > otherX)
+            && (thisHeight < thisY || thisHeight > otherY);
+    }
+}
@@ -1,21 +1,16 @@
 package pong.game.model;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Rectangle;
-
 /**
  * Representa una paleta en el juego de pong
  */
-public class Paddle extends Rectangle {
+public class Paddle extends GameObject {
     // Constants
-    private static final int GAME_HEIGHT = 600; // Extraído de límite hardcodeado
+    private static final int GAME_HEIGHT = GameModel.HEIGHT;
     
     // Fields
     private int yVelocity = 0;
     private final int startX;
     private final int startY;
-    private Color color;
     
     /**
      * Crea una nueva paleta en la posición especificada
@@ -23,21 +18,11 @@ public class Paddle extends Rectangle {
      * @param y posición y inicial
      * @param width anchura de la paleta
      * @param height altura de la paleta
-     * @param color color de la paleta
      */
-    public Paddle(int x, int y, int width, int height, Color color) {
+    public Paddle(int x, int y, int width, int height) {
         super(x, y, width, height);
         this.startX = x;
         this.startY = y;
-        this.color = color;
-    }
-    
-    /**
-     * Establece el color de la paleta
-     * @param color el nuevo color
-     */
-    public void setColor(Color color) {
-        this.color = color;
     }
     
     /**
@@ -64,15 +49,6 @@ public class Paddle extends Rectangle {
         }
     }
     
-    /**
-     * Dibuja la paleta en pantalla
-     * @param g contexto gráfico donde dibujar
-     */
-    public void draw(Graphics g) {
-        g.setColor(color);
-        g.fillRect(x, y, width, height);
-    }
-    
     /**
      * Reinicia la paleta a su posición inicial
      */
@@ -0,0 +1,279 @@
+package pong.game.model;
+
+/**
+ * Sistema de partículas para la estela de la pelota, las chispas de los
+ * rebotes y la explosión de los goles.
+ * <p>
+ * Todas las partículas viven en arrays primitivos reservados al crear el
+ * sistema. Los huecos libres se enlazan en una lista libre y las partículas
+ * vivas se recorren desde una lista densa de índices, de modo que emitir,
+ * actualizar y dibujar no crean objetos. El número de partículas vivas se
+ * limita según el tema; si se alcanza el límite las nuevas se descartan.
+ */
+public class ParticleSystem {
+    // Tipos de partícula, que la vista traduce a colores del tema
+    public static final byte KIND_TRAIL = 0;
+    public static final byte KIND_SPARK = 1;
+    public static final byte KIND_BURST = 2;
+    public static final int KIND_COUNT = 3;
+    
+    // Capacidad máxima reservada, común a todos los temas
+    public static final int DEFAULT_CAPACITY = Math.max(64, Integer.getInteger("pong.maxParticles", 4096));
+    
+    // Parámetros de cada efecto
+    private static final int TRAIL_LIFE = 18;
+    private static final int TRAIL_SIZE = 8;
+    private static final int SPARK_LIFE = 22;
+    private static final int SPARK_SIZE = 3;
+    private static final float SPARK_SPEED = 5.0f;
+    private static final int BURST_LIFE = 45;
+    private static final int BURST_SIZE = 4;
+    private static final float BURST_SPEED = 7.0f;
+    private static final float DRAG = 0.94f;
+    private static final float GRAVITY = 0.08f;
+    
+    private static final int NO_SLOT = -1;
+    
+    // Datos de las partículas (estructura de arrays)
+    private final float[] x;
+    private final float[] y;
+    private final float[] xVelocity;
+    private final float[] yVelocity;
+    private final int[] life;
+    private final int[] maxLife;
+    private final byte[] kind;
+    private final byte[] size;
+    
+    // Lista libre de huecos y lista densa de partículas vivas
+    private final int[] nextFree;
+    private final int[] active;
+    private int freeHead;
+    private int activeCount = 0;
+    private int limit;
+    
+    // Rectángulo que cubre las partículas vivas, para el repintado por regiones
+    private int minX, minY, maxX, maxY;
+    private boolean hadParticles = false;
+    
+    // Estadísticas
+    private long emitted = 0;
+    private long dropped = 0;
+    
+    // Generador xorshift propio: barato y sin contención entre hilos
+    private int seed = 0x9E3779B9;
+    
+    /**
+     * Crea un sistema con la capacidad por defecto
+     */
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Crea un sistema
+     * @param capacity número máximo de partículas reservadas
+     */
+    public ParticleSystem(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        xVelocity = new float[capacity];
+        yVelocity = new float[capacity];
+        life = new int[capacity];
+        maxLife = new int[capacity];
+        kind = new byte[capacity];
+        size = new byte[capacity];
+        nextFree = new int[capacity];
+        active = new int[capacity];
+        limit = capacity;
+        clear();
+    }
+    
+    /**
+     * Elimina todas las partículas
+     */
+    public void clear() {
+        for (int i = 0; i < nextFree.length - 1; i++) {
+            nextFree[i] = i + 1;
+        }
+        nextFree[nextFree.length - 1] = NO_SLOT;
+        freeHead = 0;
+        hadParticles = activeCount > 0;
+        activeCount = 0;
+        resetBounds();
+    }
+    
+    /**
+     * Fija la semilla del generador de las partículas
+     * @param seed semilla; 0 se sustituye por la semilla por defecto, que xorshift no admite
+     */
+    public void setSeed(int seed) {
+        this.seed = seed != 0 ? seed : 0x9E3779B9;
+    }
+    
+    /**
+     * Limita el número de partículas vivas; las que ya existen se agotan solas
+     * @param limit número máximo de partículas, acotado a la capacidad
+     */
+    public void setLimit(int limit) {
+        this.limit = Math.max(0, Math.min(limit, active.length));
+    }
+    
+    /**
+     * Avanza un tick: mueve, frena y envejece las partículas, y libera las agotadas
+     */
+    public void update() {
+        hadParticles = activeCount > 0;
+        resetBounds();
+        
+        int i = 0;
+        while (i < activeCount) {
+            int p = active[i];
+            if (--life[p] <= 0) {
+                // Devuelve el hueco a la lista libre y rellena con la última viva
+                nextFree[p] = freeHead;
+                freeHead = p;
+                active[i] = active[--activeCount];
+                continue;
+            }
+            
+            xVelocity[p] *= DRAG;
+            yVelocity[p] = yVelocity[p] * DRAG + (kind[p] == KIND_BURST ? GRAVITY : 0);
+            x[p] += xVelocity[p];
+            y[p] += yVelocity[p];
+            include(p);
+            i++;
+        }
+    }
+    
+    //--------------------------------------
+    // Emisores
+    //--------------------------------------
+    
+    /**
+     * Deja una partícula de estela en el centro de la pelota
+     */
+    public void emitTrail(float centerX, float centerY) {
+        spawn(KIND_TRAIL, centerX, centerY, 0, 0, TRAIL_LIFE, TRAIL_SIZE);
+    }
+    
+    /**
+     * Lanza chispas en abanico desde un punto de impacto
+     * @param directionX dirección horizontal del abanico (-1, 0 o 1)
+     * @param directionY dirección vertical del abanico (-1, 0 o 1)
+     * @param count número de chispas
+     */
+    public void emitSparks(float originX, float originY, float directionX, float directionY, int count) {
+        for (int n = 0; n < count; n++) {
+            float speed = SPARK_SPEED * (0.4f + nextFloat());
+            float spreadX = nextFloat() * 2 - 1;
+            float spreadY = nextFloat() * 2 - 1;
+            float vx = directionX != 0 ? directionX * Math.abs(spreadX) * speed : spreadX * speed;
+            float vy = directionY != 0 ? directionY * Math.abs(spreadY) * speed : spreadY * speed;
+            spawn(KIND_SPARK, originX, originY, vx, vy, SPARK_LIFE - (int) (nextFloat() * 8), SPARK_SIZE);
+        }
+    }
+    
+    /**
+     * Lanza una explosión circular, por ejemplo al marcar un gol
+     */
+    public void emitBurst(float originX, float originY, int count) {
+        for (int n = 0; n < count; n++) {
+            // Dirección aleatoria dentro del círculo unidad sin usar trigonometría
+            float vx, vy, lengthSquared;
+            do {
+                vx = nextFloat() * 2 - 1;
+                vy = nextFloat() * 2 - 1;
+                lengthSquared = vx * vx + vy * vy;
+            } while (lengthSquared > 1 || lengthSquared == 0);
+            
+            float speed = BURST_SPEED * (0.3f + nextFloat());
+            spawn(KIND_BURST, originX, originY, vx * speed, vy * speed,
+                BURST_LIFE - (int) (nextFloat() * 15), BURST_SIZE);
+        }
+    }
+    
+    private void spawn(byte particleKind, float px, float py, float vx, float vy, int particleLife, int particleSize) {
+        if (activeCount >= limit || freeHead == NO_SLOT) {
+            dropped++;
+            return;
+        }
+        
+        int p = freeHead;
+        freeHead = nextFree[p];
+        active[activeCount++] = p;
+        
+        x[p] = px;
+        y[p] = py;
+        xVelocity[p] = vx;
+        yVelocity[p] = vy;
+        life[p] = particleLife;
+        maxLife[p] = particleLife;
+        kind[p] = particleKind;
+        size[p] = (byte) particleSize;
+        include(p);
+        emitted++;
+    }
+    
+    private void include(int p) {
+        int left = (int) x[p] - size[p];
+        int top = (int) y[p] - size[p];
+        int right = (int) x[p] + size[p] + 1;
+        int bottom = (int) y[p] + size[p] + 1;
+        if (left < minX) minX = left;
+        if (top < minY) minY = top;
+        if (right > maxX) maxX = right;
+        if (bottom > maxY) maxY = bottom;
+    }
+    
+    private void resetBounds() {
+        minX = Integer.MAX_VALUE;
+        minY = Integer.MAX_VALUE;
+        maxX = Integer.MIN_VALUE;
+        maxY = Integer.MIN_VALUE;
+    }
+    
+    private float nextFloat() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed >>> 8) * 0x1.0p-24f;
+    }
+    
+    //--------------------------------------
+    // Lectura para la vista
+    //--------------------------------------
+    
+    /**
+     * Indica si hay algo que dibujar o borrar en este tick
+     */
+    public boolean isAnimating() {
+        return activeCount > 0 || hadParticles;
+    }
+    
+    /** Número de partículas vivas; se recorren con los índices 0..count-1 */
+    public int getActiveCount() { return activeCount; }
+    
+    public float getX(int index) { return x[active[index]]; }
+    public float getY(int index) { return y[active[index]]; }
+    public int getSize(int index) { return size[active[index]]; }
+    public byte getKind(int index) { return kind[active[index]]; }
+    
+    /**
+     * Fracción de vida restante de una partícula, de 1 (recién creada) a 0
+     */
+    public float getLifeFraction(int index) {
+        int p = active[index];
+        return (float) life[p] / maxLife[p];
+    }
+    
+    public boolean hasBounds() { return activeCount > 0; }
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    
+    public int getCapacity() { return active.length; }
+    public int getLimit() { return limit; }
+    public long getEmitted() { return emitted; }
+    public long getDropped() { return dropped; }
+}
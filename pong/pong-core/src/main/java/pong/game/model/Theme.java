@@ -0,0 +1,128 @@
+package pong.game.model;
+
+/**
+ * Representa un tema de colores para el juego.
+ * <p>
+ * Los colores se guardan como enteros ARGB ({@code 0xAARRGGBB}) para que el
+ * modelo no dependa de {@code java.awt}; la capa Swing los convierte a
+ * {@code Color} al construir el {@code ThemeDTO}.
+ */
+public class Theme {
+    private final String name;
+    private final int backgroundColor;
+    private final int paddleColor;
+    private final int ballColor;
+    private final int textColor;
+    private final int dividerColor;
+    private final int buttonColor;
+    private final int buttonTextColor;
+    private final int panelOverlayColor;
+    private final int maxParticles;
+    
+    /**
+     * Crea un nuevo tema con los colores especificados
+     * @param name nombre del tema
+     * @param backgroundColor color de fondo
+     * @param paddleColor color de las paletas
+     * @param ballColor color de la pelota
+     * @param textColor color del texto
+     * @param dividerColor color del divisor
+     * @param buttonColor color de los botones
+     * @param buttonTextColor color del texto en los botones
+     * @param panelOverlayColor color del panel superpuesto
+     */
+    public Theme(String name, int backgroundColor, int paddleColor, 
+                int ballColor, int textColor, int dividerColor,
+                int buttonColor, int buttonTextColor, int panelOverlayColor) {
+        this(name, backgroundColor, paddleColor, ballColor, textColor, dividerColor,
+            buttonColor, buttonTextColor, panelOverlayColor, ParticleSystem.DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Crea un nuevo tema con un límite propio de partículas
+     * @param maxParticles número máximo de partículas de efectos vivas a la vez
+     */
+    public Theme(String name, int backgroundColor, int paddleColor, 
+                int ballColor, int textColor, int dividerColor,
+                int buttonColor, int buttonTextColor, int panelOverlayColor,
+                int maxParticles) {
+        this.name = name;
+        this.backgroundColor = backgroundColor;
+        this.paddleColor = paddleColor;
+        this.ballColor = ballColor;
+        this.textColor = textColor;
+        this.dividerColor = dividerColor;
+        this.buttonColor = buttonColor;
+        this.buttonTextColor = buttonTextColor;
+        this.panelOverlayColor = panelOverlayColor;
+        this.maxParticles = maxParticles;
+    }
+    
+    // Métodos getter
+    public String getName() { return name; }
+    public int getBackgroundArgb() { return backgroundColor; }
+    public int getPaddleArgb() { return paddleColor; }
+    public int getBallArgb() { return ballColor; }
+    public int getTextArgb() { return textColor; }
+    public int getDividerArgb() { return dividerColor; }
+    public int getButtonArgb() { return buttonColor; }
+    public int getButtonTextArgb() { return buttonTextColor; }
+    public int getPanelOverlayArgb() { return panelOverlayColor; }
+    public int getMaxParticles() { return maxParticles; }
+    
+    // Temas predefinidos
+    public static final Theme CLASSIC = new Theme(
+        "Classic",
+        0xFF000000,               // Fondo
+        0xFFFFFFFF,               // Paletas
+        0xFFFFFFFF,               // Pelota
+        0xFFFFFFFF,               // Texto
+        0xFFFFFFFF,               // Divisor
+        0xFF4682B4,               // Botón (Azul Acero)
+        0xFFFFFFFF,               // Texto de botón
+        0xDC000000,               // Panel superpuesto
+        512                       // Límite de partículas
+    );
+    
+    public static final Theme NEON = new Theme(
+        "Neon",
+        0xFF000000,               // Fondo
+        0xFF00FFCC,               // Paletas (Cian)
+        0xFFFF0080,               // Pelota (Rosa intenso)
+        0xFFFFFF00,               // Texto (Amarillo)
+        0xFF00FF00,               // Divisor (Verde)
+        0xFF8000FF,               // Botón (Púrpura)
+        0xFFFFFFFF,               // Texto de botón
+        0xE6000028,               // Panel superpuesto
+        4096                      // Límite de partículas
+    );
+    
+    public static final Theme RETRO = new Theme(
+        "Retro",
+        0xFF003366,               // Fondo (Azul marino)
+        0xFFFF9933,               // Paletas (Naranja)
+        0xFFFFCC00,               // Pelota (Amarillo)
+        0xFFFFFFCC,               // Texto (Amarillo claro)
+        0xFFCC6600,               // Divisor (Marrón)
+        0xFF994C00,               // Botón (Marrón oscuro)
+        0xFFFFFFCC,               // Texto de botón
+        0xDC001E3C,               // Panel superpuesto
+        1024                      // Límite de partículas
+    );
+    
+    public static final Theme DARK = new Theme(
+        "Dark",
+        0xFF1E1E1E,               // Fondo (Gris oscuro)
+        0xFF646464,               // Paletas (Gris)
+        0xFFC8C8C8,               // Pelota (Gris claro)
+        0xFFC8C8C8,               // Texto (Gris claro)
+        0xFF505050,               // Divisor 
+        0xFF3C3C3C,               // Botón (Gris oscuro)
+        0xFFC8C8C8,               // Texto de botón
+        0xE60F0F0F,               // Panel superpuesto
+        256                       // Límite de partículas
+    );
+    
+    // Array de todos los temas disponibles
+    public static final Theme[] AVAILABLE_THEMES = {CLASSIC, NEON, RETRO, DARK};
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package pong.game;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import pong.game.diagnostics.StartupMetrics;
+import pong.game.view.PongGame;
+import pong.game.view.StartupPreloader;
+import pong.game.view.offscreen.JitWarmup;
+
+import java.awt.GraphicsEnvironment;
+
+/**
+ * Clase principal que lanza el juego Pong.
+ * <p>
+ * Con {@code -Dpong.training=true} hace una ejecución de entrenamiento para
+ * generar un archivo AppCDS: calienta el juego y termina sola (ver el perfil
+ * {@code appcds} del pom).
+ */
+public class Main {
+    // Tiempo que sigue abierta la ventana de entrenamiento tras el calentamiento
+    private static final int TRAINING_LINGER_MS = 2000;
+    
+    /**
+     * Punto de entrada para la aplicación
+     * @param args argumentos de línea de comandos (no utilizados)
+     */
+    public static void main(String[] args) {
+        StartupMetrics.markMainStarted();
+        
+        if (Boolean.getBoolean("pong.training")) {
+            runTraining();
+            return;
+        }
+        
+        // Fuentes e iconos se preparan en paralelo con la construcción de la ventana
+        StartupPreloader.start();
+        SwingUtilities.invokeLater(() -> new PongGame());
+        
+        // El calentamiento JIT es opcional y empieza tras el primer fotograma para no retrasarlo
+        if (JitWarmup.IN_BACKGROUND && JitWarmup.DEFAULT_TICKS > 0) {
+            StartupMetrics.onFirstFrame(() -> JitWarmup.startInSlices(JitWarmup.DEFAULT_TICKS, null));
+        }
+    }
+    
+    /**
+     * Ejecución de entrenamiento: carga las mismas clases que una partida real
+     * y termina. Sin pantalla solo se simula y dibuja en memoria.
+     */
+    private static void runTraining() {
+        int ticks = Math.max(1, JitWarmup.DEFAULT_TICKS);
+        if (GraphicsEnvironment.isHeadless()) {
+            JitWarmup.run(ticks);
+            return;
+        }
+        
+        StartupPreloader.start();
+        SwingUtilities.invokeLater(() -> new PongGame());
+        StartupMetrics.onFirstFrame(() -> JitWarmup.startInSlices(ticks, () -> {
+            // El archivo CDS se escribe al salir de la JVM
+            Timer exit = new Timer(TRAINING_LINGER_MS, e -> System.exit(0));
+            exit.setRepeats(false);
+            exit.start();
+        }));
+    }
+}
@@ -0,0 +1,804 @@
+package pong.game.controller;
+
+import pong.game.model.GameModel;
+import pong.game.model.Ball;
+import pong.game.model.Paddle;
+import pong.game.model.Theme;
+import pong.game.engine.GameEngine;
+import pong.game.view.interfaces.*;
+import pong.game.view.offscreen.JitWarmup;
+import pong.game.controller.GameController.NavigationListener;
+import pong.game.controller.dto.PerformanceStatsDTO;
+import pong.game.controller.dto.ThemeDTO;
+import pong.game.diagnostics.AllocationBudget;
+import pong.game.diagnostics.InputLatencyTracker;
+import pong.game.diagnostics.PerformanceMonitor;
+import pong.game.diagnostics.StartupMetrics;
+import pong.game.diagnostics.events.NavigationEvent;
+import pong.game.diagnostics.events.TickEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.awt.Color;
+import java.util.List;
+
+/**
+ * Controla la lógica del juego y actualiza el modelo
+ * Sirve como intermediario entre el modelo y las vistas
+ */
+public class GameController {
+    // Constantes
+    private static final String DIAGNOSTICS_FILE = "pong-diagnostics.txt";
+    
+    private GameModel model;
+    
+    // Reglas, física e IA (módulo pong-core, sin dependencias de Swing)
+    private final GameEngine engine;
+    
+    // Colores del tema actual ya convertidos para las vistas
+    private Theme convertedTheme;
+    private ThemeDTO themeColors;
+    
+    // Referencias a las interfaces de vista
+    private GameScreenInterface gameScreen;
+    private MenuScreenInterface menuScreen;
+    private InstructionsScreenInterface instructionsScreen;
+    private ThemeScreenInterface themeScreen;
+    private DifficultyScreenInterface difficultyScreen;
+    
+    // Controlador de entrada cuyos eventos se procesan al inicio de cada tick
+    private InputController inputController;
+    
+    // Métricas de rendimiento
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+    private int performanceStatsVersion = -1;
+    private boolean offline = false; // Simulado sin ventana: no cuenta para las métricas de arranque
+    
+    // Versiones del modelo ya enviadas a cada pantalla
+    private final ViewSync gameScreenSync = new ViewSync();
+    private final ViewSync menuScreenSync = new ViewSync();
+    private final ViewSync instructionsScreenSync = new ViewSync();
+    private final ViewSync themeScreenSync = new ViewSync();
+    private final ViewSync difficultyScreenSync = new ViewSync();
+    
+    // Posiciones ya enviadas a la pantalla de juego
+    private int syncedBallX = Integer.MIN_VALUE, syncedBallY, syncedPlayerPaddleY, syncedAiPaddleY;
+    private boolean gameScreenRefreshPending = false; // Sincronizada pero aún sin dibujar
+    
+    // Lista de todas las vistas para actualizaciones generales
+    private List<ViewInterface> views = new ArrayList<>();
+    
+    // Interfaz para manejar navegación entre pantallas
+    private NavigationListener navigationListener;
+    
+    /**
+     * Constructor que recibe el modelo
+     */
+    public GameController(GameModel model) {
+        this.model = model;
+        this.engine = new GameEngine(model);
+        initializeModelDefaults();
+    }
+    
+    private void initializeModelDefaults() {
+        if (model.getCurrentTheme() == null) {
+            model.setCurrentTheme(Theme.CLASSIC);
+        }
+        if (model.getCurrentDifficulty() == null) {
+            model.setCurrentDifficulty(GameModel.Difficulty.MEDIUM);
+        }
+    }
+    
+    //region Registro de Vistas
+    
+    /**
+     * Registra una vista para actualizaciones
+     */
+    public void registerView(ViewInterface view) {
+        if (!views.contains(view)) {
+            views.add(view);
+        }
+    }
+    
+    public void registerGameScreen(GameScreenInterface screen) {
+        this.gameScreen = screen;
+        registerView(screen);
+    }
+    
+    public void registerMenuScreen(MenuScreenInterface screen) {
+        this.menuScreen = screen;
+        registerView(screen);
+    }
+    
+    public void registerInstructionsScreen(InstructionsScreenInterface screen) {
+        this.instructionsScreen = screen;
+        registerView(screen);
+    }
+    
+    public void registerThemeScreen(ThemeScreenInterface screen) {
+        this.themeScreen = screen;
+        registerView(screen);
+    }
+    
+    public void registerDifficultyScreen(DifficultyScreenInterface screen) {
+        this.difficultyScreen = screen;
+        registerView(screen);
+    }
+    
+    /**
+     * Registra el controlador de entrada para procesar sus eventos en cada tick
+     */
+    public void registerInputController(InputController inputController) {
+        this.inputController = inputController;
+    }
+    
+    //endregion
+    
+    //region Actualización principal del juego
+    
+    /**
+     * Actualiza el estado del juego y todas las vistas
+     */
+    public void update() {
+        update(1);
+    }
+    
+    /**
+     * Actualiza el estado del juego varios pasos y las vistas una sola vez.
+     * Permite bajar la frecuencia del bucle en los menús sin ralentizar la demo.
+     * @param modelSteps pasos del modelo a simular en este tick
+     */
+    public void update(int modelSteps) {
+        AllocationBudget allocationBudget = performanceMonitor.getAllocationBudget();
+        allocationBudget.beginTick();
+        
+        TickEvent event = TickEvent.isRecording() ? new TickEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        long tickStart = System.nanoTime();
+        performanceMonitor.tickStarted(tickStart);
+        performanceMonitor.getTickWatchdog().beginTick(tickStart);
+        
+        if (inputController != null) {
+            inputController.processPendingInput();
+        }
+        
+        long modelStart = System.nanoTime();
+        for (int step = 0; step < modelSteps; step++) {
+            engine.tick();
+        }
+        performanceMonitor.getInputLatencyTracker().tickCompleted(
+            model.getPlayerPaddle().y, model.getAiPaddle().y);
+        
+        long viewsStart = System.nanoTime();
+        performanceMonitor.recordTick(viewsStart - tickStart);
+        
+        syncViewState();
+        // El dibujado síncrono de la pantalla de juego no cuenta para el presupuesto
+        allocationBudget.pauseTick();
+        presentGameScreen();
+        allocationBudget.resumeTick();
+        long tickEnd = System.nanoTime();
+        performanceMonitor.recordViewUpdate(tickEnd - viewsStart);
+        performanceMonitor.getTickWatchdog().endTick(tickEnd,
+            modelStart - tickStart, viewsStart - modelStart, tickEnd - viewsStart);
+        StartupMetrics.markTick(tickEnd - tickStart,
+            "GAME".equals(model.getCurrentScreen()) && !model.isDemoMode() && !model.isGamePaused());
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = model.getCurrentScreen();
+                event.difficulty = model.getCurrentDifficulty().name();
+                event.ballSpeed = engine.getBallSpeed();
+                event.demoMode = model.isDemoMode();
+                event.paused = model.isGamePaused();
+                event.commit();
+            }
+        }
+        
+        if (allocationBudget.endTick()) {
+            failAllocationBudget();
+        }
+    }
+    
+    /**
+     * Detiene la ejecución tras superar el presupuesto de asignación en modo fail.
+     * Se termina el proceso porque una excepción en el temporizador de Swing solo
+     * se registraría y el juego continuaría.
+     */
+    private void failAllocationBudget() {
+        dumpDiagnostics();
+        System.exit(1);
+    }
+    
+    /**
+     * Avanza un tick sin entrada ni métricas de rendimiento.
+     * Lo usa el renderizado sin ventana, que simula partidas en hilos de trabajo
+     * y no debe arrancar el vigilante de ticks de cada controlador.
+     */
+    public void simulateTick() {
+        offline = true;
+        engine.tick();
+        updateViews();
+    }
+    
+    //endregion
+    
+    //region Actualización de vistas
+    
+    /**
+     * Envía el estado a las pantallas visibles cuyos datos han cambiado y
+     * dibuja la pantalla de juego si lo necesita
+     */
+    private void updateViews() {
+        syncViewState();
+        presentGameScreen();
+    }
+    
+    /**
+     * Envía el estado a las pantallas visibles cuyos datos han cambiado.
+     * La pantalla de juego siempre está visible (muestra la demo detrás de los
+     * menús); las demás solo se actualizan mientras se muestran y cuando cambian
+     * las versiones del modelo de las que dependen. El dibujado de la pantalla
+     * de juego se deja para {@link #presentGameScreen()}, porque es síncrono.
+     */
+    private void syncViewState() {
+        String screen = model.getCurrentScreen();
+        
+        if (gameScreen != null) {
+            updateGameScreen();
+        }
+        
+        if (menuScreen != null && "MAIN_MENU".equals(screen) && menuScreenSync.isStale(model, true)) {
+            updateMenuScreen();
+            menuScreenSync.synced(model);
+        }
+        
+        if (instructionsScreen != null && "INSTRUCTIONS".equals(screen) && instructionsScreenSync.isStale(model, false)) {
+            updateInstructionsScreen();
+            instructionsScreenSync.synced(model);
+        }
+        
+        if (themeScreen != null && "THEMES".equals(screen) && themeScreenSync.isStale(model, false)) {
+            updateThemeScreen();
+            themeScreenSync.synced(model);
+        }
+        
+        if (difficultyScreen != null && "DIFFICULTY".equals(screen) && difficultyScreenSync.isStale(model, false)) {
+            updateDifficultyScreen();
+            difficultyScreenSync.synced(model);
+        }
+    }
+    
+    /**
+     * Actualiza la pantalla de juego con los datos que han cambiado
+     * y solo la repinta si hay algo nuevo que mostrar
+     */
+    private void updateGameScreen() {
+        ThemeDTO theme = getThemeColors();
+        boolean changed = false;
+        
+        if (gameScreenSync.isStale(model, true)) {
+            // Configurar colores del tema
+            gameScreen.setBackgroundColor(theme.getBackgroundColor());
+            gameScreen.setTextColor(theme.getTextColor());
+            gameScreen.setDividerColor(theme.getDividerColor());
+            
+            // Configurar datos de juego
+            gameScreen.setScore(model.getPlayerScore(), model.getAiScore());
+            gameScreen.setMultiplayerMode(model.isMultiplayerMode());
+            gameScreen.setThemeName(theme.getName());
+            gameScreen.setParticles(model.getParticles());
+            
+            // Estados especiales
+            updateGameScreenState();
+            
+            gameScreenSync.synced(model);
+            changed = true;
+        }
+        
+        // Datos de la pelota y paletas
+        if (haveGameObjectsMoved() || changed) {
+            updateGameScreenObjects(theme);
+            changed = true;
+        }
+        
+        if (updateGameScreenOverlay()) {
+            changed = true;
+        }
+        
+        // Mientras haya partículas en movimiento cada tick cambia el fotograma
+        if (!model.isGamePaused() && model.getParticles().isAnimating()) {
+            changed = true;
+        }
+        
+        if (changed) {
+            gameScreenRefreshPending = true;
+        }
+    }
+    
+    /**
+     * Dibuja la pantalla de juego si la última sincronización cambió algo
+     */
+    private void presentGameScreen() {
+        if (gameScreenRefreshPending) {
+            gameScreenRefreshPending = false;
+            gameScreen.refresh();
+        }
+    }
+    
+    private boolean haveGameObjectsMoved() {
+        Ball ball = model.getBall();
+        return ball.x != syncedBallX || ball.y != syncedBallY
+            || model.getPlayerPaddle().y != syncedPlayerPaddleY
+            || model.getAiPaddle().y != syncedAiPaddleY;
+    }
+    
+    private void updateGameScreenObjects(ThemeDTO theme) {
+        Ball ball = model.getBall();
+        syncedBallX = ball.x;
+        syncedBallY = ball.y;
+        syncedPlayerPaddleY = model.getPlayerPaddle().y;
+        syncedAiPaddleY = model.getAiPaddle().y;
+        
+        gameScreen.setBallData(ball.x, ball.y, ball.width, ball.height, theme.getBallColor());
+        
+        Paddle playerPaddle = model.getPlayerPaddle();
+        gameScreen.setPlayerPaddleData(
+            playerPaddle.x, playerPaddle.y, playerPaddle.width, playerPaddle.height, 
+            theme.getPaddleColor());
+        
+        Paddle aiPaddle = model.getAiPaddle();
+        gameScreen.setAIPaddleData(
+            aiPaddle.x, aiPaddle.y, aiPaddle.width, aiPaddle.height, 
+            theme.getPaddleColor());
+    }
+    
+    private void updateGameScreenState() {
+        gameScreen.showPerformanceOverlay(model.isPerformanceOverlayVisible());
+        gameScreen.setCaptureActive(model.isCaptureActive());
+        
+        boolean isActiveGame = model.isGamePaused() && model.isGameRunning();
+        gameScreen.showPauseScreen(isActiveGame);
+        gameScreen.setExitButtonVisible(isActiveGame);
+        
+        // Manejo de mensajes de Game Over
+        if (model.isGameOver()) {
+            String winnerText = model.isMultiplayerMode() ?
+                (model.getPlayerScore() > model.getAiScore() ? "Jugador 1" : "Jugador 2") :
+                (model.getPlayerScore() > model.getAiScore() ? "¡Has ganado!" : "La IA");
+            gameScreen.showGameOver(winnerText);
+        } else {
+            gameScreen.showGameOver(null);
+        }
+        
+        // Mensaje de delay después de puntuar
+        if (model.isDelayAfterScore() && model.isGameRunning() && !model.isGameOver()) {
+            String message = getScoringMessage(model.getLastScorer());
+            gameScreen.showDelayMessage(message);
+        } else {
+            gameScreen.showDelayMessage(null);
+        }
+    }
+    
+    /**
+     * Envía las métricas a la superposición de rendimiento
+     * @return true si se enviaron métricas nuevas
+     */
+    private boolean updateGameScreenOverlay() {
+        // Las métricas solo se recalculan cuando el monitor toma una nueva muestra
+        if (model.isPerformanceOverlayVisible() && performanceStatsVersion != performanceMonitor.getSampleVersion()) {
+            performanceStatsVersion = performanceMonitor.getSampleVersion();
+            gameScreen.setPerformanceStats(createPerformanceStats());
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Convierte las métricas del monitor a DTO para pasar a la vista
+     */
+    private PerformanceStatsDTO createPerformanceStats() {
+        InputLatencyTracker latency = performanceMonitor.getInputLatencyTracker();
+        return new PerformanceStatsDTO(
+            performanceMonitor.getFramesPerSecond(),
+            performanceMonitor.getRecentTickHistogram().getPercentile(99),
+            performanceMonitor.getTickJitterNanos(),
+            performanceMonitor.getRecentViewUpdateHistogram().getPercentile(99),
+            performanceMonitor.getRecentPaintHistogram().getPercentile(99),
+            performanceMonitor.getGcCount(),
+            performanceMonitor.getAllocationBytesPerSecond(),
+            latency.getHistogram().getPercentile(50),
+            latency.getHistogram().getPercentile(99),
+            latency.getHistogram().getPercentile(99.9),
+            latency.getHistogram().getCount()
+        );
+    }
+    
+    private String getScoringMessage(String scorer) {
+        if ("player".equals(scorer)) {
+            return model.isMultiplayerMode() ? "¡Punto para Jugador 1!" : "¡Punto para ti!";
+        } else {
+            return model.isMultiplayerMode() ? "¡Punto para Jugador 2!" : "¡Punto para la IA!";
+        }
+    }
+    
+    /**
+     * Actualiza la pantalla de menú con los datos actuales
+     */
+    private void updateMenuScreen() {
+        ThemeDTO theme = getThemeColors();
+        
+        menuScreen.setGameOver(model.isGameOver());
+        menuScreen.setMultiplayerButtonText(model.isMultiplayerMode());
+        menuScreen.setThemeColors(
+            theme.getBackgroundColor(),
+            theme.getTextColor(),
+            theme.getButtonColor(),
+            theme.getButtonTextColor()
+        );
+        
+        menuScreen.refresh();
+    }
+    
+    /**
+     * Actualiza la pantalla de instrucciones
+     */
+    private void updateInstructionsScreen() {
+        ThemeDTO theme = getThemeColors();
+        
+        instructionsScreen.setMultiplayerMode(model.isMultiplayerMode());
+        instructionsScreen.setBackgroundColor(theme.getBackgroundColor());
+        instructionsScreen.setTextColor(theme.getTextColor());
+        instructionsScreen.setOverlayColor(theme.getPanelOverlayColor());
+        instructionsScreen.updateButtonThemes(theme.getButtonColor(), theme.getButtonTextColor());
+        
+        instructionsScreen.refresh();
+    }
+    
+    /**
+     * Actualiza la pantalla de temas
+     */
+    private void updateThemeScreen() {
+        ThemeDTO currentTheme = getThemeColors();
+        
+        themeScreen.setBackgroundColor(currentTheme.getBackgroundColor());
+        themeScreen.setTextColor(currentTheme.getTextColor());
+        themeScreen.setOverlayColor(currentTheme.getPanelOverlayColor());
+        themeScreen.setCurrentTheme(currentTheme.getName());
+        themeScreen.updateButtonThemes(currentTheme.getButtonColor(), currentTheme.getButtonTextColor());
+        
+        if (themeScreen.needsThemeData()) {
+            populateThemeData();
+        }
+        
+        themeScreen.refresh();
+    }
+    
+    private void populateThemeData() {
+        List<ThemeDTO> themeDTOs = new ArrayList<>();
+        for (Theme theme : Theme.AVAILABLE_THEMES) {
+            themeDTOs.add(convertThemeToDTO(theme));
+        }
+        themeScreen.setThemes(themeDTOs);
+        themeScreen.setNeedsThemeData(false);
+    }
+    
+    /**
+     * Actualiza la pantalla de dificultad
+     */
+    private void updateDifficultyScreen() {
+        ThemeDTO theme = getThemeColors();
+        
+        difficultyScreen.setBackgroundColor(theme.getBackgroundColor());
+        difficultyScreen.setTextColor(theme.getTextColor());
+        difficultyScreen.setOverlayColor(theme.getPanelOverlayColor());
+        difficultyScreen.updateButtonThemes(theme.getButtonColor(), theme.getButtonTextColor());
+        
+        difficultyScreen.setCurrentDifficulty(getDifficultyName(model.getCurrentDifficulty()));
+        difficultyScreen.setMultiplayerMode(model.isMultiplayerMode());
+        
+        difficultyScreen.refresh();
+    }
+    
+    private String getDifficultyName(GameModel.Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY: return "Fácil";
+            case MEDIUM: return "Medio";
+            case HARD: return "Difícil";
+            default: return "Medio";
+        }
+    }
+    
+    /**
+     * Devuelve los colores del tema actual, convirtiéndolos solo cuando cambia el tema
+     */
+    private ThemeDTO getThemeColors() {
+        Theme theme = model.getCurrentTheme();
+        if (theme != convertedTheme) {
+            themeColors = convertThemeToDTO(theme);
+            convertedTheme = theme;
+        }
+        return themeColors;
+    }
+    
+    /**
+     * Convierte un tema a DTO para pasar a la vista.
+     * El modelo guarda los colores en ARGB; aquí se pasan a {@code Color}.
+     */
+    private ThemeDTO convertThemeToDTO(Theme theme) {
+        return new ThemeDTO(
+            theme.getName(),
+            new Color(theme.getBackgroundArgb(), true),
+            new Color(theme.getPaddleArgb(), true),
+            new Color(theme.getBallArgb(), true),
+            new Color(theme.getTextArgb(), true),
+            new Color(theme.getDividerArgb(), true),
+            new Color(theme.getButtonArgb(), true),
+            new Color(theme.getButtonTextArgb(), true),
+            new Color(theme.getPanelOverlayArgb(), true)
+        );
+    }
+    
+    //endregion
+    
+    //region Métodos de control para las vistas
+    
+    /**
+     * Inicia un nuevo juego
+     */
+    public void startGame() {
+        engine.startGame();
+    }
+    
+    /**
+     * Sincroniza de inmediato las pantallas con el modelo, por ejemplo tras
+     * construir una pantalla que aún no ha recibido datos
+     */
+    public void syncViews() {
+        updateViews();
+    }
+    
+    /**
+     * Pausa o reanuda el juego
+     */
+    public void pauseGame() {
+        model.setGamePaused(!model.isGamePaused());
+    }
+    
+    /**
+     * Establece la dificultad del juego
+     */
+    public void setDifficulty(GameModel.Difficulty difficulty) {
+        model.setCurrentDifficulty(difficulty);
+    }
+    
+    /**
+     * Establece el tema del juego
+     */
+    public void setTheme(Theme theme) {
+        if (theme != null) {
+            System.out.println("Cambiando tema a: " + theme.getName());
+            model.setCurrentTheme(theme);
+            updateViews();
+        }
+    }
+    
+    /**
+     * Alterna entre modo un jugador y multijugador
+     */
+    public void toggleMultiplayerMode() {
+        model.setMultiplayerMode(!model.isMultiplayerMode());
+    }
+    
+    /**
+     * Regresa al menú principal desde el juego
+     */
+    public void exitToMainMenu() {
+        model.setGamePaused(false);
+        navigateToMainMenu();
+    }
+    
+    /**
+     * Muestra u oculta la superposición de rendimiento
+     */
+    public void togglePerformanceOverlay() {
+        model.setPerformanceOverlayVisible(!model.isPerformanceOverlayVisible());
+    }
+    
+    /**
+     * Inicia o detiene la captura de la partida
+     */
+    public void toggleCapture() {
+        model.setCaptureActive(!model.isCaptureActive());
+    }
+    
+    /**
+     * Vuelca las métricas de rendimiento a un fichero
+     */
+    public void dumpDiagnostics() {
+        Path file = Paths.get(DIAGNOSTICS_FILE);
+        try {
+            performanceMonitor.dump(file);
+            System.out.println("Diagnóstico guardado en: " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error al guardar el diagnóstico: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Vuelca las métricas al salir de la aplicación si hubo ticks lentos
+     */
+    public void dumpDiagnosticsOnExit() {
+        if (performanceMonitor.getTickWatchdog().getTotalStalls() > 0) {
+            dumpDiagnostics();
+        }
+    }
+    
+    /**
+     * Notifica que el bucle ha cambiado de ritmo o se ha reanudado, para que
+     * el hueco no se cuente como jitter
+     * @param fullRate si el bucle vuelve al ritmo de la partida; solo entonces
+     *        se registran los intervalos entre ticks
+     */
+    public void notifyTickRateChanged(boolean fullRate) {
+        performanceMonitor.tickRateChanged(fullRate);
+    }
+    
+    /**
+     * Notifica que la vista ha terminado de dibujar un fotograma de juego
+     * @param paintStartNanos instante del inicio del dibujado según System.nanoTime()
+     * @param paintEndNanos instante del fin del dibujado según System.nanoTime()
+     */
+    public void notifyFramePresented(long paintStartNanos, long paintEndNanos) {
+        performanceMonitor.recordPaint(paintEndNanos - paintStartNanos);
+        performanceMonitor.getInputLatencyTracker().framePresented(paintEndNanos);
+        if (!offline) {
+            StartupMetrics.markFramePresented(paintEndNanos - paintStartNanos);
+        }
+    }
+    
+    /**
+     * Devuelve las métricas de rendimiento
+     */
+    public PerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
+    
+    /**
+     * Obtiene un tema según su nombre
+     */
+    public Theme getThemeByName(String name) {
+        if (name != null) {
+            for (Theme theme : Theme.AVAILABLE_THEMES) {
+                if (theme.getName().equals(name)) {
+                    return theme;
+                }
+            }
+        }
+        return Theme.CLASSIC;
+    }
+    
+    /**
+     * Devuelve el modelo para el InputController
+     */
+    public GameModel getModel() {
+        return model;
+    }
+    
+    //endregion
+    
+    //region Navegación entre pantallas
+    
+    /**
+     * Interfaz para manejar navegación entre pantallas
+     */
+    public interface NavigationListener {
+        void showScreen(String screenName);
+    }
+    
+    /**
+     * Establece el listener para navegación
+     */
+    public void setNavigationListener(NavigationListener listener) {
+        this.navigationListener = listener;
+    }
+    
+    /**
+     * Notifica cambio de pantalla al listener
+     */
+    private void notifyScreenChange(String screenName) {
+        NavigationEvent event = NavigationEvent.isRecording() ? new NavigationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        if (navigationListener != null) {
+            System.out.println("Navegando a: " + screenName);
+            // Las pantallas ocultas no reciben datos: se sincroniza la de destino antes de mostrarla
+            updateViews();
+            navigationListener.showScreen(screenName);
+        } else {
+            System.err.println("Error: NavigationListener no configurado");
+        }
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = screenName;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Navega a la pantalla del menú principal
+     */
+    public void navigateToMainMenu() {
+        model.setCurrentScreen("MAIN_MENU");
+        notifyScreenChange("MAIN_MENU");
+    }
+    
+    /**
+     * Navega a la pantalla del juego
+     */
+    public void navigateToGame() {
+        // El calentamiento JIT no debe competir con la partida
+        JitWarmup.cancel();
+        model.setCurrentScreen("GAME");
+        notifyScreenChange("GAME");
+    }
+    
+    /**
+     * Navega a la pantalla de instrucciones
+     */
+    public void navigateToInstructions() {
+        model.setCurrentScreen("INSTRUCTIONS");
+        notifyScreenChange("INSTRUCTIONS");
+    }
+    
+    /**
+     * Navega a la pantalla de selección de dificultad
+     */
+    public void navigateToDifficulty() {
+        model.setCurrentScreen("DIFFICULTY");
+        notifyScreenChange("DIFFICULTY");
+    }
+    
+    /**
+     * Navega a la pantalla de selección de temas
+     */
+    public void navigateToThemes() {
+        model.setCurrentScreen("THEMES");
+        notifyScreenChange("THEMES");
+    }
+    
+    //endregion
+    
+    /**
+     * Versiones del modelo que ya se han enviado a una pantalla
+     */
+    private static final class ViewSync {
+        private long configVersion = -1;
+        private long stateVersion = -1;
+        
+        /**
+         * Indica si la pantalla tiene datos anteriores a los del modelo
+         * @param dependsOnState si la pantalla también muestra puntuaciones o estados de partida
+         */
+        boolean isStale(GameModel model, boolean dependsOnState) {
+            return configVersion != model.getConfigVersion()
+                || (dependsOnState && stateVersion != model.getStateVersion());
+        }
+        
+        void synced(GameModel model) {
+            configVersion = model.getConfigVersion();
+            stateVersion = model.getStateVersion();
+        }
+    }
+}
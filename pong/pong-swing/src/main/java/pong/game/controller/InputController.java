@@ -0,0 +1,165 @@
+package pong.game.controller;
+
+import pong.game.model.GameModel;
+import java.awt.event.KeyListener;
+import java.awt.event.KeyEvent;
+
+/**
+ * Maneja las entradas del teclado y las envía al controlador.
+ * Los eventos se encolan con su marca de tiempo y se aplican al modelo
+ * al inicio de cada tick, de modo que la entrada es determinista.
+ */
+public class InputController implements KeyListener {
+    private GameController controller;
+    private static final int PADDLE_SPEED = 6;
+    
+    // Bits de las teclas mantenidas
+    private static final int KEY_W = 1;
+    private static final int KEY_S = 1 << 1;
+    private static final int KEY_UP = 1 << 2;
+    private static final int KEY_DOWN = 1 << 3;
+    private static final int KEY_SPACE = 1 << 4;
+    private static final int KEY_OVERLAY = 1 << 5;
+    private static final int KEY_DUMP = 1 << 6;
+    private static final int KEY_CAPTURE = 1 << 7;
+    
+    private final InputEventQueue eventQueue = new InputEventQueue();
+    private final InputEventQueue.Consumer eventConsumer = this::applyKeyEvent;
+    private int heldKeys = 0;
+    
+    public InputController(GameController controller) {
+        this.controller = controller;
+        controller.registerInputController(this);
+    }
+    
+    @Override
+    public void keyPressed(KeyEvent e) {
+        enqueue(e.getKeyCode(), true);
+    }
+    
+    @Override
+    public void keyReleased(KeyEvent e) {
+        enqueue(e.getKeyCode(), false);
+    }
+    
+    @Override
+    public void keyTyped(KeyEvent e) {
+        // No utilizado
+    }
+    
+    private void enqueue(int keyCode, boolean pressed) {
+        if (keyToBit(keyCode) != 0) {
+            eventQueue.offer(keyCode, pressed, System.nanoTime());
+        }
+    }
+    
+    /**
+     * Procesa los eventos pendientes y actualiza la velocidad de las paletas
+     * según las teclas mantenidas. Se invoca al inicio de cada tick.
+     */
+    public void processPendingInput() {
+        eventQueue.drain(eventConsumer);
+        applyHeldKeys();
+    }
+    
+    /**
+     * Incorpora un evento al conjunto de teclas mantenidas
+     */
+    private void applyKeyEvent(int keyCode, boolean pressed, long timestampNanos) {
+        int bit = keyToBit(keyCode);
+        boolean wasHeld = (heldKeys & bit) != 0;
+        
+        if (pressed) {
+            heldKeys |= bit;
+        } else {
+            heldKeys &= ~bit;
+        }
+        
+        if (pressed && !wasHeld) {
+            applyKeyPress(bit, timestampNanos);
+        }
+    }
+    
+    /**
+     * Ejecuta las acciones asociadas a la pulsación inicial de una tecla
+     */
+    private void applyKeyPress(int bit, long timestampNanos) {
+        GameModel model = controller.getModel();
+        
+        // Las pulsaciones de movimiento se miden hasta que aparecen en pantalla
+        if (bit == KEY_W || bit == KEY_S) {
+            controller.getPerformanceMonitor().getInputLatencyTracker().inputApplied(timestampNanos, false);
+        } else if ((bit == KEY_UP || bit == KEY_DOWN) && model.isMultiplayerMode()) {
+            controller.getPerformanceMonitor().getInputLatencyTracker().inputApplied(timestampNanos, true);
+        }
+        
+        // Teclas de diagnóstico
+        if (bit == KEY_OVERLAY) {
+            controller.togglePerformanceOverlay();
+        } else if (bit == KEY_DUMP) {
+            controller.dumpDiagnostics();
+        } else if (bit == KEY_CAPTURE) {
+            controller.toggleCapture();
+        }
+        
+        // Tecla espacio - solo en la pulsación inicial y si NO estamos en modo demo
+        if (bit == KEY_SPACE) {
+            if (!model.isDemoMode()) {
+                if (model.isGameOver() || !model.isGameRunning()) {
+                    controller.startGame();
+                } else {
+                    controller.pauseGame();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Aplica a las paletas la dirección resultante de las teclas mantenidas
+     */
+    private void applyHeldKeys() {
+        GameModel model = controller.getModel();
+        
+        // En modo demo las paletas las mueve el controlador
+        if (model.isDemoMode()) {
+            return;
+        }
+        
+        boolean canMove = !model.isGamePaused() && !model.isGameOver();
+        
+        model.getPlayerPaddle().setYVelocity(canMove ? direction(KEY_W, KEY_S) * PADDLE_SPEED : 0);
+        
+        // Controles del Jugador 2 en modo multijugador
+        if (model.isMultiplayerMode()) {
+            model.getAiPaddle().setYVelocity(canMove ? direction(KEY_UP, KEY_DOWN) * PADDLE_SPEED : 0);
+        }
+    }
+    
+    /**
+     * Devuelve -1, 0 o 1 según las teclas de subir y bajar mantenidas
+     */
+    private int direction(int upBit, int downBit) {
+        int direction = 0;
+        if ((heldKeys & upBit) != 0) {
+            direction--;
+        }
+        if ((heldKeys & downBit) != 0) {
+            direction++;
+        }
+        return direction;
+    }
+    
+    private int keyToBit(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_W: return KEY_W;
+            case KeyEvent.VK_S: return KEY_S;
+            case KeyEvent.VK_UP: return KEY_UP;
+            case KeyEvent.VK_DOWN: return KEY_DOWN;
+            case KeyEvent.VK_SPACE: return KEY_SPACE;
+            case KeyEvent.VK_F3: return KEY_OVERLAY;
+            case KeyEvent.VK_F4: return KEY_DUMP;
+            case KeyEvent.VK_F5: return KEY_CAPTURE;
+            default: return 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package pong.game.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola sin bloqueos de eventos de teclado con marca de tiempo.
+ * Un único productor (el hilo de eventos de AWT) publica eventos y un único
+ * consumidor (el tick del juego) los extrae al inicio de cada actualización.
+ * Usa arrays primitivos preasignados, por lo que no genera basura.
+ */
+public class InputEventQueue {
+    private static final int CAPACITY = 256; // Debe ser potencia de dos
+    private static final int MASK = CAPACITY - 1;
+    
+    private final int[] keys = new int[CAPACITY];
+    private final boolean[] pressed = new boolean[CAPACITY];
+    private final long[] timestamps = new long[CAPACITY];
+    
+    // Secuencias de escritura y lectura
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    
+    /**
+     * Receptor de los eventos extraídos de la cola
+     */
+    public interface Consumer {
+        void onKeyEvent(int key, boolean pressed, long timestampNanos);
+    }
+    
+    /**
+     * Publica un evento en la cola
+     * @param key código de la tecla
+     * @param isPressed true si la tecla se ha pulsado, false si se ha soltado
+     * @param timestampNanos instante del evento según System.nanoTime()
+     * @return false si la cola está llena y el evento se ha descartado
+     */
+    public boolean offer(int key, boolean isPressed, long timestampNanos) {
+        long writeSeq = tail.get();
+        if (writeSeq - head.get() >= CAPACITY) {
+            return false;
+        }
+        
+        int index = (int) (writeSeq & MASK);
+        keys[index] = key;
+        pressed[index] = isPressed;
+        timestamps[index] = timestampNanos;
+        tail.lazySet(writeSeq + 1);
+        return true;
+    }
+    
+    /**
+     * Extrae todos los eventos pendientes en orden de llegada
+     * @param consumer receptor de cada evento
+     * @return número de eventos extraídos
+     */
+    public int drain(Consumer consumer) {
+        long readSeq = head.get();
+        long writeSeq = tail.get();
+        int count = 0;
+        
+        while (readSeq < writeSeq) {
+            int index = (int) (readSeq & MASK);
+            consumer.onKeyEvent(keys[index], pressed[index], timestamps[index]);
+            readSeq++;
+            count++;
+        }
+        
+        head.lazySet(readSeq);
+        return count;
+    }
+    
+    /**
+     * Indica si hay eventos pendientes de procesar
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+}
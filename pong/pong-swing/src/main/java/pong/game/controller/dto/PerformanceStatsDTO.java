@@ -0,0 +1,48 @@
+package pong.game.controller.dto;
+
+/**
+ * DTO para transferir las métricas de rendimiento del controlador a las vistas.
+ * Todos los tiempos se expresan en nanosegundos.
+ */
+public class PerformanceStatsDTO {
+    private final int framesPerSecond;
+    private final long tickP99;
+    private final long tickJitter;
+    private final long viewUpdateP99;
+    private final long frameP99;
+    private final long gcCount;
+    private final long allocationBytesPerSecond;
+    private final long inputLatencyP50;
+    private final long inputLatencyP99;
+    private final long inputLatencyP999;
+    private final long inputLatencySamples;
+
+    public PerformanceStatsDTO(int framesPerSecond, long tickP99, long tickJitter,
+                               long viewUpdateP99, long frameP99, long gcCount,
+                               long allocationBytesPerSecond, long inputLatencyP50,
+                               long inputLatencyP99, long inputLatencyP999, long inputLatencySamples) {
+        this.framesPerSecond = framesPerSecond;
+        this.tickP99 = tickP99;
+        this.tickJitter = tickJitter;
+        this.viewUpdateP99 = viewUpdateP99;
+        this.frameP99 = frameP99;
+        this.gcCount = gcCount;
+        this.allocationBytesPerSecond = allocationBytesPerSecond;
+        this.inputLatencyP50 = inputLatencyP50;
+        this.inputLatencyP99 = inputLatencyP99;
+        this.inputLatencyP999 = inputLatencyP999;
+        this.inputLatencySamples = inputLatencySamples;
+    }
+
+    public int getFramesPerSecond() { return framesPerSecond; }
+    public long getTickP99() { return tickP99; }
+    public long getTickJitter() { return tickJitter; }
+    public long getViewUpdateP99() { return viewUpdateP99; }
+    public long getFrameP99() { return frameP99; }
+    public long getGcCount() { return gcCount; }
+    public long getAllocationBytesPerSecond() { return allocationBytesPerSecond; }
+    public long getInputLatencyP50() { return inputLatencyP50; }
+    public long getInputLatencyP99() { return inputLatencyP99; }
+    public long getInputLatencyP999() { return inputLatencyP999; }
+    public long getInputLatencySamples() { return inputLatencySamples; }
+}
@@ -0,0 +1,210 @@
+package pong.game.diagnostics;
+
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Comprueba que {@code GameController.update()} no asigna memoria en régimen
+ * estable.
+ * <p>
+ * Mide con {@code com.sun.management.ThreadMXBean} los bytes asignados por el
+ * hilo del bucle durante cada llamada, descontando los tramos entre
+ * {@link #pauseTick()} y {@link #resumeTick()}. Tras unos ticks de calentamiento, para
+ * que el JIT haya compilado el tick, agrupa las llamadas en ventanas y compara
+ * la media de cada ventana con el presupuesto. Las recompilaciones del JIT
+ * asignan de forma esporádica, así que solo se considera superado cuando
+ * varias ventanas seguidas lo exceden; entonces avisa por la salida de error
+ * o, en modo {@code fail}, lo indica al controlador, que vuelca el
+ * diagnóstico y termina el proceso con código 1. Una excepción lanzada desde
+ * el tick no bastaría: el temporizador de Swing solo la registra y el juego
+ * sigue en marcha.
+ * <p>
+ * Se configura con propiedades del sistema:
+ * <ul>
+ *   <li>{@code pong.allocationBudget}: bytes por tick permitidos de media
+ *       (sin definir lo desactiva; 0 exige un tick sin asignaciones)</li>
+ *   <li>{@code pong.allocationBudgetMode}: {@code warn} (por defecto) o {@code fail}</li>
+ *   <li>{@code pong.allocationWarmupTicks}: ticks ignorados al arrancar (2000 por defecto)</li>
+ * </ul>
+ * Se mide el tick del motor y la sincronización del estado de las vistas. El
+ * controlador pausa la medida mientras la pantalla de juego se dibuja de forma
+ * síncrona desde el propio tick (regiones sucias, lienzo activo o captura), y
+ * el pintado que Swing programa desde el {@code RepaintManager}, la entrada y
+ * el resto del EDT quedan igualmente fuera. Un presupuesto 0 garantiza que la
+ * simulación y la sincronización no asignan en régimen estable, no que el
+ * juego pueda ejecutarse sin recolector (por ejemplo con Epsilon).
+ * <p>
+ * La superposición de rendimiento crea sus métricas una vez por muestra, así
+ * que debe estar oculta para exigir presupuesto 0.
+ */
+public class AllocationBudget {
+    private static final int WINDOW_TICKS = 1000;
+    private static final int SUSTAINED_WINDOWS = 3;
+    private static final int DEFAULT_WARMUP_TICKS = 2000;
+    private static final int MAX_WARNINGS = 20;
+    
+    private final long budgetBytesPerTick;
+    private final boolean failOnViolation;
+    private final int warmupTicks;
+    private final com.sun.management.ThreadMXBean allocationBean;
+    
+    // Estado de la llamada en curso
+    private long tickStartBytes = -1;
+    private long pausedAtBytes = -1;
+    
+    // Ventana actual
+    private long ticksSeen = 0;
+    private int windowTicks = 0;
+    private long windowBytes = 0;
+    
+    // Resultados acumulados desde el fin del calentamiento
+    private long measuredTicks = 0;
+    private long measuredBytes = 0;
+    private long maxTickBytes = 0;
+    private double worstWindowBytesPerTick = 0;
+    private long windowsOverBudget = 0;
+    private int consecutiveWindowsOverBudget = 0;
+    private long violations = 0;
+    
+    /**
+     * Crea la comprobación con la configuración de las propiedades del sistema
+     */
+    public AllocationBudget() {
+        this(Long.getLong("pong.allocationBudget", -1),
+            "fail".equalsIgnoreCase(System.getProperty("pong.allocationBudgetMode")),
+            Math.max(0, Integer.getInteger("pong.allocationWarmupTicks", DEFAULT_WARMUP_TICKS)));
+    }
+    
+    /**
+     * Crea una comprobación con una configuración concreta
+     * @param budgetBytesPerTick bytes por tick permitidos de media (negativo la desactiva)
+     * @param failOnViolation si una superación sostenida debe detener la ejecución en lugar de avisar
+     * @param warmupTicks ticks iniciales que no se miden
+     */
+    public AllocationBudget(long budgetBytesPerTick, boolean failOnViolation, int warmupTicks) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (budgetBytesPerTick >= 0 && threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        } else {
+            if (budgetBytesPerTick >= 0) {
+                System.err.println("Presupuesto de asignación desactivado: la JVM no mide asignaciones por hilo");
+            }
+            allocationBean = null;
+        }
+        this.budgetBytesPerTick = budgetBytesPerTick;
+        this.failOnViolation = failOnViolation;
+        this.warmupTicks = warmupTicks;
+    }
+    
+    public boolean isEnabled() {
+        return allocationBean != null;
+    }
+    
+    /**
+     * Marca el inicio de una llamada a update() en el hilo actual
+     */
+    public void beginTick() {
+        if (allocationBean == null) {
+            return;
+        }
+        tickStartBytes = allocationBean.getCurrentThreadAllocatedBytes();
+    }
+    
+    /**
+     * Deja de contar las asignaciones de la llamada en curso hasta {@link #resumeTick()}
+     */
+    public void pauseTick() {
+        if (allocationBean == null || tickStartBytes < 0) {
+            return;
+        }
+        pausedAtBytes = allocationBean.getCurrentThreadAllocatedBytes();
+    }
+    
+    /**
+     * Vuelve a contar las asignaciones, descontando las hechas durante la pausa
+     */
+    public void resumeTick() {
+        if (allocationBean == null || pausedAtBytes < 0) {
+            return;
+        }
+        tickStartBytes += allocationBean.getCurrentThreadAllocatedBytes() - pausedAtBytes;
+        pausedAtBytes = -1;
+    }
+    
+    /**
+     * Marca el fin de la llamada y comprueba la ventana si se ha completado
+     * @return true en modo {@code fail}, si el presupuesto se ha superado de
+     *         forma sostenida y la ejecución debe detenerse
+     */
+    public boolean endTick() {
+        if (allocationBean == null || tickStartBytes < 0) {
+            return false;
+        }
+        long allocated = allocationBean.getCurrentThreadAllocatedBytes() - tickStartBytes;
+        tickStartBytes = -1;
+        
+        if (++ticksSeen <= warmupTicks) {
+            return false;
+        }
+        
+        measuredTicks++;
+        measuredBytes += allocated;
+        maxTickBytes = Math.max(maxTickBytes, allocated);
+        windowBytes += allocated;
+        if (++windowTicks < WINDOW_TICKS) {
+            return false;
+        }
+        
+        double bytesPerTick = (double) windowBytes / windowTicks;
+        boolean overBudget = windowBytes > budgetBytesPerTick * windowTicks;
+        worstWindowBytesPerTick = Math.max(worstWindowBytesPerTick, bytesPerTick);
+        windowBytes = 0;
+        windowTicks = 0;
+        
+        if (!overBudget) {
+            consecutiveWindowsOverBudget = 0;
+            return false;
+        }
+        
+        windowsOverBudget++;
+        if (++consecutiveWindowsOverBudget >= SUSTAINED_WINDOWS) {
+            violations++;
+            String message = String.format(
+                "Presupuesto de asignación superado: %.1f bytes por tick (máximo %d) durante %d ventanas seguidas de %d ticks",
+                bytesPerTick, budgetBytesPerTick, consecutiveWindowsOverBudget, WINDOW_TICKS);
+            if (failOnViolation || violations <= MAX_WARNINGS) {
+                System.err.println(message);
+            }
+            return failOnViolation;
+        }
+        return false;
+    }
+    
+    public long getWindowsOverBudget() { return windowsOverBudget; }
+    public long getViolations() { return violations; }
+    public long getMeasuredTicks() { return measuredTicks; }
+    public long getMaxTickBytes() { return maxTickBytes; }
+    
+    /**
+     * Bytes asignados de media por tick desde el fin del calentamiento
+     */
+    public double getMeanBytesPerTick() {
+        return measuredTicks > 0 ? (double) measuredBytes / measuredTicks : 0;
+    }
+    
+    /**
+     * Escribe el resultado de la comprobación, si está activa
+     */
+    public void writeReport(PrintWriter out) {
+        if (!isEnabled()) {
+            return;
+        }
+        out.printf("Presupuesto de asignación: %d B/tick (%s)  Ticks medidos: %d%n",
+            budgetBytesPerTick, failOnViolation ? "fail" : "warn", measuredTicks);
+        out.printf("  Media: %.2f B/tick  Peor ventana: %.2f B/tick  Máximo en un tick: %d B%n",
+            getMeanBytesPerTick(), worstWindowBytesPerTick, maxTickBytes);
+        out.printf("  Ventanas superadas: %d  Superaciones sostenidas: %d%n", windowsOverBudget, violations);
+    }
+}
@@ -0,0 +1,70 @@
+package pong.game.diagnostics;
+
+/**
+ * Mide la latencia desde que llega un evento de teclado hasta el primer
+ * fotograma que dibuja la paleta desplazada por ese evento.
+ * <p>
+ * Ciclo de una muestra: {@link #inputApplied} la deja pendiente,
+ * {@link #tickCompleted} la confirma si la paleta se ha movido (o la descarta
+ * si no, por ejemplo en pausa o contra el borde) y {@link #framePresented}
+ * registra el tiempo transcurrido en el histograma.
+ */
+public class InputLatencyTracker {
+    private final LatencyHistogram histogram = new LatencyHistogram("Entrada a fotograma");
+    
+    // Muestra pendiente de confirmar en el siguiente tick
+    private long pendingInputNanos = -1;
+    private boolean pendingSecondPlayer = false;
+    
+    // Muestra confirmada a la espera del siguiente fotograma
+    private long awaitingFrameNanos = -1;
+    
+    // Posiciones de las paletas al final del tick anterior
+    private int lastPlayerPaddleY = Integer.MIN_VALUE;
+    private int lastSecondPaddleY = Integer.MIN_VALUE;
+    
+    /**
+     * Registra que se ha aplicado una pulsación de movimiento
+     * @param timestampNanos instante en que llegó el evento de teclado
+     * @param secondPlayer true si afecta a la paleta derecha
+     */
+    public void inputApplied(long timestampNanos, boolean secondPlayer) {
+        // Solo se mide la entrada más antigua que aún no se ha visto en pantalla
+        if (pendingInputNanos < 0) {
+            pendingInputNanos = timestampNanos;
+            pendingSecondPlayer = secondPlayer;
+        }
+    }
+    
+    /**
+     * Se invoca al final de cada tick con la posición actual de las paletas
+     */
+    public void tickCompleted(int playerPaddleY, int secondPaddleY) {
+        if (pendingInputNanos >= 0) {
+            boolean moved = pendingSecondPlayer
+                ? secondPaddleY != lastSecondPaddleY
+                : playerPaddleY != lastPlayerPaddleY;
+            if (moved && awaitingFrameNanos < 0) {
+                awaitingFrameNanos = pendingInputNanos;
+            }
+            pendingInputNanos = -1;
+        }
+        lastPlayerPaddleY = playerPaddleY;
+        lastSecondPaddleY = secondPaddleY;
+    }
+    
+    /**
+     * Se invoca cuando se termina de dibujar un fotograma de juego
+     * @param timestampNanos instante del fin del dibujado
+     */
+    public void framePresented(long timestampNanos) {
+        if (awaitingFrameNanos >= 0) {
+            histogram.record(timestampNanos - awaitingFrameNanos);
+            awaitingFrameNanos = -1;
+        }
+    }
+    
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+}
@@ -0,0 +1,143 @@
+package pong.game.diagnostics;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Histograma log-lineal de duraciones en nanosegundos.
+ * Cada potencia de dos se divide en 16 sub-intervalos lineales, lo que da una
+ * precisión relativa de ~6% en todo el rango. Los contadores se preasignan,
+ * por lo que registrar un valor no genera basura.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 40; // ~18 minutos
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT =
+        SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+    
+    private final String name;
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long totalSum = 0;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue = 0;
+    
+    /**
+     * Crea un histograma vacío
+     * @param name nombre que se muestra en los informes
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Registra una duración
+     * @param nanos duración en nanosegundos (los negativos se ignoran)
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        long value = Math.min(nanos, MAX_VALUE);
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalSum += value;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+    
+    /**
+     * Devuelve el valor por debajo del cual se encuentra el percentil indicado
+     * @param percentile percentil entre 0 y 100
+     * @return valor en nanosegundos, o 0 si el histograma está vacío
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(totalCount * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        target = Math.max(1, target);
+        
+        long accumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Math.min(highestValueInBucket(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+    
+    /**
+     * Suma los valores de otro histograma a este, sin asignar memoria
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalSum += other.totalSum;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+    
+    /**
+     * Vacía el histograma
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalSum = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+    
+    /**
+     * Escribe un resumen legible del histograma
+     */
+    public void writeSummary(PrintWriter out) {
+        out.printf("%s: n=%d min=%.3fms media=%.3fms p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms%n",
+            name, totalCount, toMillis(getMin()), toMillis(getMean()),
+            toMillis(getPercentile(50)), toMillis(getPercentile(99)),
+            toMillis(getPercentile(99.9)), toMillis(maxValue));
+    }
+    
+    /**
+     * Convierte nanosegundos a milisegundos
+     */
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (mantissa - SUB_BUCKET_HALF);
+    }
+    
+    private static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long mantissa = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+    
+    // Getters
+    public String getName() { return name; }
+    public long getCount() { return totalCount; }
+    public long getMin() { return totalCount == 0 ? 0 : minValue; }
+    public long getMax() { return maxValue; }
+    public long getMean() { return totalCount == 0 ? 0 : totalSum / totalCount; }
+}
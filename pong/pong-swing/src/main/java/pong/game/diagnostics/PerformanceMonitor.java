@@ -0,0 +1,209 @@
+package pong.game.diagnostics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Agrupa las métricas de rendimiento del juego y genera el volcado a fichero.
+ * Todos los métodos de registro se invocan desde el hilo de eventos de Swing.
+ */
+public class PerformanceMonitor {
+    private static final long SAMPLE_PERIOD_NANOS = 1_000_000_000L;
+    // Segundos que abarcan los percentiles de la superposición
+    private static final int OVERLAY_WINDOW_SAMPLES = 5;
+    
+    private final InputLatencyTracker inputLatencyTracker = new InputLatencyTracker();
+    private final TickWatchdog tickWatchdog = new TickWatchdog();
+    private final AllocationBudget allocationBudget = new AllocationBudget();
+    
+    // Histogramas de tiempos desde el arranque, para el volcado
+    private final LatencyHistogram tickHistogram = new LatencyHistogram("Tick (modelo)");
+    private final LatencyHistogram viewUpdateHistogram = new LatencyHistogram("Actualización de vistas");
+    private final LatencyHistogram paintHistogram = new LatencyHistogram("Dibujado de fotograma");
+    private final LatencyHistogram tickIntervalHistogram = new LatencyHistogram("Intervalo entre ticks");
+    
+    // Los mismos tiempos en los últimos segundos, para la superposición
+    private final RollingHistogram recentTicks = new RollingHistogram("Tick (modelo)", OVERLAY_WINDOW_SAMPLES);
+    private final RollingHistogram recentViewUpdates = new RollingHistogram("Actualización de vistas", OVERLAY_WINDOW_SAMPLES);
+    private final RollingHistogram recentPaints = new RollingHistogram("Dibujado de fotograma", OVERLAY_WINDOW_SAMPLES);
+    private final RollingHistogram recentTickIntervals = new RollingHistogram("Intervalo entre ticks", OVERLAY_WINDOW_SAMPLES);
+    
+    // Fuentes de datos de la JVM
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    
+    // Estado del muestreo periódico
+    private long lastTickStartNanos = -1;
+    private boolean recordIntervals = true;
+    private long sampleStartNanos = -1;
+    private long sampleStartAllocatedBytes = 0;
+    private int framesInSample = 0;
+    
+    // Últimos valores muestreados
+    private int framesPerSecond = 0;
+    private long gcCount = 0;
+    private long allocationBytesPerSecond = -1;
+    private int sampleVersion = 0;
+    
+    public PerformanceMonitor() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        } else {
+            allocationBean = null;
+        }
+    }
+    
+    /**
+     * Marca el inicio de un tick y registra el intervalo desde el anterior
+     * @param nowNanos instante actual según System.nanoTime()
+     */
+    public void tickStarted(long nowNanos) {
+        if (recordIntervals && lastTickStartNanos >= 0) {
+            long interval = nowNanos - lastTickStartNanos;
+            tickIntervalHistogram.record(interval);
+            recentTickIntervals.record(interval);
+        }
+        lastTickStartNanos = nowNanos;
+        sampleRuntime(nowNanos);
+    }
+    
+    /**
+     * Olvida el inicio del último tick tras un cambio de ritmo o una pausa del
+     * bucle, para no registrar ese hueco como intervalo
+     * @param fullRate si el bucle vuelve al ritmo de la partida; a otros
+     *        ritmos no se registran intervalos, para que el jitter no mezcle
+     *        periodos distintos
+     */
+    public void tickRateChanged(boolean fullRate) {
+        lastTickStartNanos = -1;
+        recordIntervals = fullRate;
+    }
+    
+    public void recordTick(long nanos) {
+        tickHistogram.record(nanos);
+        recentTicks.record(nanos);
+    }
+    
+    public void recordViewUpdate(long nanos) {
+        viewUpdateHistogram.record(nanos);
+        recentViewUpdates.record(nanos);
+    }
+    
+    public void recordPaint(long nanos) {
+        paintHistogram.record(nanos);
+        recentPaints.record(nanos);
+        framesInSample++;
+    }
+    
+    /**
+     * Actualiza fps, recolecciones, tasa de asignación y la ventana de la
+     * superposición una vez por segundo
+     */
+    private void sampleRuntime(long nowNanos) {
+        if (sampleStartNanos < 0) {
+            sampleStartNanos = nowNanos;
+            sampleStartAllocatedBytes = currentThreadAllocatedBytes();
+            return;
+        }
+        
+        long elapsed = nowNanos - sampleStartNanos;
+        if (elapsed < SAMPLE_PERIOD_NANOS) {
+            return;
+        }
+        
+        framesPerSecond = (int) Math.round(framesInSample * 1e9 / elapsed);
+        framesInSample = 0;
+        
+        long totalGcCount = 0;
+        for (int i = 0; i < gcBeans.size(); i++) {
+            totalGcCount += Math.max(0, gcBeans.get(i).getCollectionCount());
+        }
+        gcCount = totalGcCount;
+        
+        long allocatedBytes = currentThreadAllocatedBytes();
+        if (allocatedBytes >= 0) {
+            allocationBytesPerSecond = (long) ((allocatedBytes - sampleStartAllocatedBytes) * 1e9 / elapsed);
+        }
+        sampleStartAllocatedBytes = allocatedBytes;
+        sampleStartNanos = nowNanos;
+        
+        recentTicks.rotate();
+        recentViewUpdates.rotate();
+        recentPaints.rotate();
+        recentTickIntervals.rotate();
+        sampleVersion++;
+    }
+    
+    private long currentThreadAllocatedBytes() {
+        return allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+    
+    /**
+     * Diferencia entre el p99 y la mediana del intervalo entre ticks en los
+     * últimos segundos
+     */
+    public long getTickJitterNanos() {
+        LatencyHistogram intervals = recentTickIntervals.getWindow();
+        return intervals.getPercentile(99) - intervals.getPercentile(50);
+    }
+    
+    // Getters
+    public InputLatencyTracker getInputLatencyTracker() { return inputLatencyTracker; }
+    public TickWatchdog getTickWatchdog() { return tickWatchdog; }
+    public AllocationBudget getAllocationBudget() { return allocationBudget; }
+    public LatencyHistogram getTickHistogram() { return tickHistogram; }
+    public LatencyHistogram getViewUpdateHistogram() { return viewUpdateHistogram; }
+    public LatencyHistogram getPaintHistogram() { return paintHistogram; }
+    public LatencyHistogram getTickIntervalHistogram() { return tickIntervalHistogram; }
+    public LatencyHistogram getRecentTickHistogram() { return recentTicks.getWindow(); }
+    public LatencyHistogram getRecentViewUpdateHistogram() { return recentViewUpdates.getWindow(); }
+    public LatencyHistogram getRecentPaintHistogram() { return recentPaints.getWindow(); }
+    public int getFramesPerSecond() { return framesPerSecond; }
+    public long getGcCount() { return gcCount; }
+    public long getAllocationBytesPerSecond() { return allocationBytesPerSecond; }
+    
+    /**
+     * Número que cambia cada vez que se recalculan las métricas periódicas
+     */
+    public int getSampleVersion() { return sampleVersion; }
+    
+    /**
+     * Escribe un informe legible con todas las métricas
+     */
+    public void writeReport(PrintWriter out) {
+        out.println("Informe de rendimiento - " + LocalDateTime.now());
+        out.println();
+        out.printf("FPS: %d  Recolecciones GC: %d  Asignación (EDT): %d KB/s%n",
+            framesPerSecond, gcCount, allocationBytesPerSecond / 1024);
+        StartupMetrics.writeSummary(out);
+        allocationBudget.writeReport(out);
+        out.println();
+        tickHistogram.writeSummary(out);
+        viewUpdateHistogram.writeSummary(out);
+        paintHistogram.writeSummary(out);
+        tickIntervalHistogram.writeSummary(out);
+        inputLatencyTracker.getHistogram().writeSummary(out);
+        out.println();
+        tickWatchdog.writeReport(out);
+    }
+    
+    /**
+     * Vuelca el informe en un fichero
+     * @param file ruta del fichero de destino
+     * @throws IOException si no se puede escribir el fichero
+     */
+    public void dump(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            writeReport(out);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package pong.game.diagnostics;
+
+/**
+ * Histograma de los últimos segundos para la superposición de rendimiento.
+ * <p>
+ * Los valores se registran en una ranura por periodo de muestreo; en cada
+ * {@link #rotate()} se suman las ranuras en un histograma preasignado y se
+ * vacía la más antigua. Así los fotogramas interpretados del arranque, o
+ * cualquier pico antiguo, dejan de contar en el p99 pasado unos segundos.
+ */
+public class RollingHistogram {
+    private final LatencyHistogram[] slots;
+    private final LatencyHistogram window;
+    private int current = 0;
+    
+    /**
+     * Crea un histograma deslizante vacío
+     * @param name nombre que se muestra en los informes
+     * @param slotCount número de periodos de muestreo que abarca la ventana
+     */
+    public RollingHistogram(String name, int slotCount) {
+        slots = new LatencyHistogram[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new LatencyHistogram(name);
+        }
+        window = new LatencyHistogram(name);
+    }
+    
+    /**
+     * Registra una duración en la ranura actual
+     * @param nanos duración en nanosegundos
+     */
+    public void record(long nanos) {
+        slots[current].record(nanos);
+    }
+    
+    /**
+     * Cierra la ranura actual: recalcula la ventana y empieza una ranura nueva
+     */
+    public void rotate() {
+        window.reset();
+        for (int i = 0; i < slots.length; i++) {
+            window.add(slots[i]);
+        }
+        current = (current + 1) % slots.length;
+        slots[current].reset();
+    }
+    
+    /**
+     * Valores de las últimas ranuras cerradas
+     */
+    public LatencyHistogram getWindow() {
+        return window;
+    }
+}
@@ -0,0 +1,166 @@
+package pong.game.diagnostics;
+
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mide el tiempo hasta el primer fotograma en un arranque en frío.
+ * <p>
+ * Se registran dos intervalos: desde el arranque de la JVM (incluye la carga
+ * de la propia JVM) y desde la entrada a {@code main}. Solo se mide si
+ * {@link #markMainStarted()} se ha llamado, de modo que las herramientas sin
+ * ventana que reutilizan la pantalla de juego no informan de nada. El
+ * objetivo se configura con {@code pong.startupBudgetMs} (300 ms por defecto).
+ * <p>
+ * También mide el primer fotograma fluido: el comienzo de la primera racha de
+ * {@value #SMOOTH_STREAK} ticks de partida seguidos en los que ni el tick ni el
+ * dibujado superan {@code pong.smoothBudgetMs} (4 ms por defecto). Solo
+ * cuentan los ticks de una partida en curso: los del menú y la demo son baratos
+ * y completarían la racha mientras el calentamiento sigue en marcha. Mientras
+ * el código del bucle se interpreta o se compila aparecen ticks lentos que
+ * cortan la racha, así que esta medida refleja el efecto del calentamiento JIT
+ * y de CDS.
+ */
+public final class StartupMetrics {
+    private static final long BUDGET_MS = Long.getLong("pong.startupBudgetMs", 300);
+    private static final long SMOOTH_BUDGET_NANOS = Long.getLong("pong.smoothBudgetMs", 4) * 1_000_000L;
+    private static final int SMOOTH_STREAK = 120;
+    
+    private static long mainStartNanos = -1;
+    private static long sinceJvmStartMs = -1;
+    private static long sinceMainMs = -1;
+    private static volatile boolean done = false;
+    private static final List<Runnable> firstFrameActions = new ArrayList<>();
+    
+    // Racha de ticks fluidos; solo se usa desde el hilo del bucle
+    private static int smoothStreak = 0;
+    private static long streakStartMs = -1;
+    private static long firstMatchTickMs = -1;
+    private static long firstSmoothFrameMs = -1;
+    
+    private StartupMetrics() {
+    }
+    
+    /**
+     * Marca la entrada a main; debe ser lo primero que haga la aplicación
+     */
+    public static synchronized void markMainStarted() {
+        mainStartNanos = System.nanoTime();
+    }
+    
+    /**
+     * Ejecuta una acción en cuanto se dibuje el primer fotograma, o de
+     * inmediato si ya se dibujó
+     */
+    public static void onFirstFrame(Runnable action) {
+        synchronized (StartupMetrics.class) {
+            if (!done) {
+                firstFrameActions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+    
+    /**
+     * Marca que se ha dibujado un fotograma del bucle del juego
+     * @param paintNanos duración del dibujado
+     */
+    public static void markFramePresented(long paintNanos) {
+        // Camino rápido para el resto de fotogramas
+        if (!done) {
+            recordFirstFrame();
+        }
+        if (paintNanos > SMOOTH_BUDGET_NANOS) {
+            smoothStreak = 0;
+        }
+    }
+    
+    /**
+     * Marca el final de un tick del bucle del juego
+     * @param tickNanos duración del tick
+     * @param inMatch si el tick pertenece a una partida en curso
+     */
+    public static void markTick(long tickNanos, boolean inMatch) {
+        if (firstSmoothFrameMs >= 0 || !done) {
+            return;
+        }
+        if (!inMatch) {
+            smoothStreak = 0;
+            return;
+        }
+        if (firstMatchTickMs < 0) {
+            firstMatchTickMs = sinceJvmStart();
+        }
+        if (tickNanos > SMOOTH_BUDGET_NANOS) {
+            smoothStreak = 0;
+            return;
+        }
+        if (smoothStreak++ == 0) {
+            streakStartMs = sinceJvmStart();
+        }
+        if (smoothStreak >= SMOOTH_STREAK) {
+            firstSmoothFrameMs = streakStartMs;
+            System.out.printf("Primer fotograma fluido: %d ms desde el arranque de la JVM (%d ms desde el inicio de la partida)%n",
+                firstSmoothFrameMs, firstSmoothFrameMs - firstMatchTickMs);
+        }
+    }
+    
+    private static void recordFirstFrame() {
+        List<Runnable> actions;
+        synchronized (StartupMetrics.class) {
+            if (done || mainStartNanos < 0) {
+                return;
+            }
+            recordFirstFrameLocked();
+            actions = new ArrayList<>(firstFrameActions);
+            firstFrameActions.clear();
+        }
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+    
+    private static void recordFirstFrameLocked() {
+        done = true;
+        sinceMainMs = (System.nanoTime() - mainStartNanos) / 1_000_000;
+        sinceJvmStartMs = sinceJvmStart();
+        
+        System.out.printf("Primer fotograma: %d ms desde el arranque de la JVM (%d ms desde main)%s%n",
+            sinceJvmStartMs, sinceMainMs, sinceJvmStartMs > BUDGET_MS ? " - por encima del objetivo de " + BUDGET_MS + " ms" : "");
+    }
+    
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+    
+    /**
+     * Milisegundos desde el arranque de la JVM hasta el primer fotograma fluido, o -1 si aún no lo hubo
+     */
+    public static long getTimeToFirstSmoothFrameMs() {
+        return firstSmoothFrameMs;
+    }
+    
+    /**
+     * Milisegundos desde el arranque de la JVM hasta el primer fotograma, o -1 si aún no se ha dibujado
+     */
+    public static synchronized long getTimeToFirstFrameMs() {
+        return sinceJvmStartMs;
+    }
+    
+    /**
+     * Escribe la medida en un informe
+     */
+    public static synchronized void writeSummary(PrintWriter out) {
+        if (sinceJvmStartMs >= 0) {
+            out.printf("Primer fotograma: %d ms desde la JVM, %d ms desde main (objetivo %d ms)%n",
+                sinceJvmStartMs, sinceMainMs, BUDGET_MS);
+        }
+        if (firstSmoothFrameMs >= 0) {
+            out.printf("Primer fotograma fluido: %d ms desde la JVM, %d ms desde el inicio de la partida%n",
+                firstSmoothFrameMs, firstSmoothFrameMs - firstMatchTickMs);
+        }
+    }
+}
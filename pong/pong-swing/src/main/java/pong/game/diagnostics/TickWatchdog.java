@@ -0,0 +1,243 @@
+package pong.game.diagnostics;
+
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Vigila la duración de cada tick del juego.
+ * Un hilo demonio espera aparcado hasta que empieza un tick, duerme hasta que
+ * se agota el presupuesto y, si el tick sigue en curso, captura la pila del
+ * hilo que lo ejecuta. Se despierta como mucho dos veces por tick, y nunca
+ * con el bucle suspendido. Al terminar un tick lento se guarda un registro
+ * con la pila capturada y los tiempos por fase de los últimos ticks en un
+ * historial acotado.
+ * <p>
+ * El presupuesto se configura con la propiedad {@code pong.tickBudgetMs}
+ * (8 ms por defecto, 0 lo desactiva).
+ */
+public class TickWatchdog {
+    public static final int PHASE_INPUT = 0;
+    public static final int PHASE_MODEL = 1;
+    public static final int PHASE_VIEWS = 2;
+    private static final int PHASE_COUNT = 3;
+    private static final String[] PHASE_NAMES = {"entrada", "modelo", "vistas"};
+    
+    private static final int HISTORY_SIZE = 60;
+    private static final int MAX_STALLS = 32;
+    private static final long DEFAULT_BUDGET_MS = 8;
+    
+    private final long budgetNanos;
+    
+    // Tiempos por fase de los últimos ticks (buffer circular)
+    private final long[][] phaseHistory = new long[HISTORY_SIZE][PHASE_COUNT];
+    private int historyIndex = 0;
+    private int historyCount = 0;
+    
+    // Estado compartido con el hilo vigilante
+    private volatile long currentTickStart = -1;
+    private volatile Thread tickThread;
+    private volatile CapturedStack capturedStack;
+    private Thread watchdogThread;
+    
+    // Historial de bloqueos
+    private final ArrayDeque<StallRecord> stalls = new ArrayDeque<>();
+    private long totalStalls = 0;
+    
+    /**
+     * Crea un vigilante con el presupuesto indicado en la propiedad del sistema
+     */
+    public TickWatchdog() {
+        this(Long.getLong("pong.tickBudgetMs", DEFAULT_BUDGET_MS));
+    }
+    
+    /**
+     * Crea un vigilante con un presupuesto concreto
+     * @param budgetMs duración máxima de un tick en milisegundos (0 lo desactiva)
+     */
+    public TickWatchdog(long budgetMs) {
+        this.budgetNanos = budgetMs * 1_000_000L;
+    }
+    
+    public boolean isEnabled() {
+        return budgetNanos > 0;
+    }
+    
+    /**
+     * Marca el inicio de un tick en el hilo actual
+     */
+    public void beginTick(long nowNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (watchdogThread == null) {
+            startWatchdogThread();
+        }
+        tickThread = Thread.currentThread();
+        currentTickStart = nowNanos;
+        LockSupport.unpark(watchdogThread);
+    }
+    
+    /**
+     * Marca el fin de un tick y registra un bloqueo si se superó el presupuesto
+     * @param nowNanos instante actual según System.nanoTime()
+     * @param inputNanos duración del procesado de entrada
+     * @param modelNanos duración de la actualización del modelo
+     * @param viewsNanos duración de la actualización de las vistas
+     */
+    public void endTick(long nowNanos, long inputNanos, long modelNanos, long viewsNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        long tickStart = currentTickStart;
+        currentTickStart = -1;
+        
+        long[] phases = phaseHistory[historyIndex];
+        phases[PHASE_INPUT] = inputNanos;
+        phases[PHASE_MODEL] = modelNanos;
+        phases[PHASE_VIEWS] = viewsNanos;
+        historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+        historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+        
+        long duration = nowNanos - tickStart;
+        if (duration > budgetNanos) {
+            CapturedStack captured = capturedStack;
+            StackTraceElement[] stack = captured != null && captured.tickStart == tickStart
+                ? captured.frames : null;
+            recordStall(duration, stack);
+        }
+        capturedStack = null;
+    }
+    
+    private void recordStall(long durationNanos, StackTraceElement[] stack) {
+        long[][] recent = new long[historyCount][];
+        for (int i = 0; i < historyCount; i++) {
+            int index = (historyIndex - historyCount + i + HISTORY_SIZE) % HISTORY_SIZE;
+            recent[i] = phaseHistory[index].clone();
+        }
+        
+        synchronized (stalls) {
+            if (stalls.size() == MAX_STALLS) {
+                stalls.removeFirst();
+            }
+            stalls.addLast(new StallRecord(Instant.now(), durationNanos, recent, stack));
+            totalStalls++;
+        }
+    }
+    
+    private void startWatchdogThread() {
+        watchdogThread = new Thread(this::watch, "pong-tick-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+    }
+    
+    /**
+     * Bucle del hilo vigilante
+     */
+    private void watch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long tickStart = currentTickStart;
+            if (tickStart < 0) {
+                // Sin tick en curso: beginTick() lo despierta
+                LockSupport.park(this);
+                continue;
+            }
+            
+            long remaining = tickStart + budgetNanos - System.nanoTime();
+            if (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                continue;
+            }
+            
+            // Una única captura por tick, tomada mientras sigue bloqueado
+            CapturedStack captured = capturedStack;
+            if (captured == null || captured.tickStart != tickStart) {
+                Thread thread = tickThread;
+                if (thread != null) {
+                    capturedStack = new CapturedStack(tickStart, thread.getStackTrace());
+                }
+            }
+            LockSupport.park(this);
+        }
+    }
+    
+    /**
+     * Número total de ticks que han superado el presupuesto
+     */
+    public long getTotalStalls() {
+        synchronized (stalls) {
+            return totalStalls;
+        }
+    }
+    
+    /**
+     * Escribe los bloqueos registrados
+     */
+    public void writeReport(PrintWriter out) {
+        if (!isEnabled()) {
+            out.println("Vigilante de ticks desactivado");
+            return;
+        }
+        
+        synchronized (stalls) {
+            out.printf("Ticks por encima de %.1f ms: %d (se conservan los últimos %d)%n",
+                budgetNanos / 1e6, totalStalls, stalls.size());
+            for (StallRecord stall : stalls) {
+                out.println();
+                stall.writeTo(out);
+            }
+        }
+    }
+    
+    /**
+     * Pila capturada por el hilo vigilante para un tick concreto
+     */
+    private static class CapturedStack {
+        final long tickStart;
+        final StackTraceElement[] frames;
+        
+        CapturedStack(long tickStart, StackTraceElement[] frames) {
+            this.tickStart = tickStart;
+            this.frames = frames;
+        }
+    }
+    
+    /**
+     * Registro de un tick que superó el presupuesto
+     */
+    private static class StallRecord {
+        final Instant time;
+        final long durationNanos;
+        final long[][] recentPhases;
+        final StackTraceElement[] stack;
+        
+        StallRecord(Instant time, long durationNanos, long[][] recentPhases, StackTraceElement[] stack) {
+            this.time = time;
+            this.durationNanos = durationNanos;
+            this.recentPhases = recentPhases;
+            this.stack = stack;
+        }
+        
+        void writeTo(PrintWriter out) {
+            out.printf("[%s] Tick de %.2f ms%n", time, durationNanos / 1e6);
+            
+            if (stack != null) {
+                out.println("  Pila del hilo durante el bloqueo:");
+                for (StackTraceElement frame : stack) {
+                    out.println("    at " + frame);
+                }
+            } else {
+                out.println("  Pila no capturada (el tick terminó antes de la comprobación)");
+            }
+            
+            out.printf("  Últimos %d ticks (ms, más reciente al final):%n", recentPhases.length);
+            for (long[] phases : recentPhases) {
+                out.printf("    %s %.3f  %s %.3f  %s %.3f%n",
+                    PHASE_NAMES[PHASE_INPUT], phases[PHASE_INPUT] / 1e6,
+                    PHASE_NAMES[PHASE_MODEL], phases[PHASE_MODEL] / 1e6,
+                    PHASE_NAMES[PHASE_VIEWS], phases[PHASE_VIEWS] / 1e6);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package pong.game.view;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Capa estática de la pantalla de juego (fondo y línea divisoria).
+ * Se dibuja una sola vez por tema y tamaño en una VolatileImage acelerada por
+ * hardware y en cada fotograma se copia con un único drawImage. Si no hay
+ * configuración gráfica disponible se usa una BufferedImage compatible.
+ */
+public class BackgroundLayer {
+    private VolatileImage volatileImage;
+    private BufferedImage fallbackImage;
+    
+    // Datos con los que se dibujó la capa actual
+    private RenderPalette renderedPalette;
+    private int renderedWidth = -1;
+    private int renderedHeight = -1;
+    
+    /**
+     * Dibuja la capa en el contexto indicado, regenerándola si es necesario
+     * @param g contexto gráfico de destino
+     * @param target componente sobre el que se dibuja
+     * @param palette paleta del tema actual
+     * @param width ancho de la capa
+     * @param height alto de la capa
+     */
+    public void draw(Graphics g, Component target, RenderPalette palette, int width, int height) {
+        boolean stale = palette != renderedPalette || width != renderedWidth || height != renderedHeight;
+        GraphicsConfiguration config = target.getGraphicsConfiguration();
+        
+        if (config == null) {
+            drawFallback(g, palette, width, height, stale);
+            return;
+        }
+        
+        // Bucle estándar de VolatileImage: el contenido puede perderse en cualquier momento
+        do {
+            int status = volatileImage == null
+                ? VolatileImage.IMAGE_INCOMPATIBLE : volatileImage.validate(config);
+            
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE
+                    || volatileImage.getWidth() != width || volatileImage.getHeight() != height) {
+                recreateVolatileImage(config, width, height);
+                stale = true;
+            }
+            
+            if (stale || status == VolatileImage.IMAGE_RESTORED) {
+                renderContent(volatileImage, palette, width, height);
+                stale = false;
+            }
+            
+            g.drawImage(volatileImage, 0, 0, null);
+        } while (volatileImage.contentsLost());
+    }
+    
+    private void recreateVolatileImage(GraphicsConfiguration config, int width, int height) {
+        if (volatileImage != null) {
+            volatileImage.flush();
+        }
+        volatileImage = config.createCompatibleVolatileImage(width, height);
+        volatileImage.validate(config);
+        fallbackImage = null;
+    }
+    
+    private void drawFallback(Graphics g, RenderPalette palette, int width, int height, boolean stale) {
+        if (fallbackImage == null || stale) {
+            if (fallbackImage == null || fallbackImage.getWidth() != width || fallbackImage.getHeight() != height) {
+                fallbackImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            renderContent(fallbackImage, palette, width, height);
+        }
+        g.drawImage(fallbackImage, 0, 0, null);
+    }
+    
+    /**
+     * Dibuja el fondo y la línea divisoria en la imagen
+     */
+    private void renderContent(Image image, RenderPalette palette, int width, int height) {
+        Graphics2D g2d = (Graphics2D) image.getGraphics();
+        try {
+            g2d.setColor(palette.getBackgroundColor());
+            g2d.fillRect(0, 0, width, height);
+            
+            g2d.setColor(palette.getDividerColor());
+            for (int i = 0; i < height; i += 50) {
+                g2d.fillRect(width / 2 - 1, i, 2, 25);
+            }
+        } finally {
+            g2d.dispose();
+        }
+        
+        renderedPalette = palette;
+        renderedWidth = width;
+        renderedHeight = height;
+    }
+    
+    /**
+     * Libera los recursos gráficos de la capa
+     */
+    public void flush() {
+        if (volatileImage != null) {
+            volatileImage.flush();
+            volatileImage = null;
+        }
+        fallbackImage = null;
+        renderedPalette = null;
+    }
+}
@@ -0,0 +1,185 @@
+package pong.game.view;
+
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caché de las imágenes de {@link ModernButton}, compartida por todos los botones.
+ * Cada combinación de tamaño, forma, colores, texto, fuente y estado se
+ * rasteriza una sola vez con antialiasing; después cada repintado es una
+ * copia de imagen. La caché tiene un tamaño máximo ({@code pong.buttonCacheSize},
+ * 64 por defecto) y descarta la entrada usada hace más tiempo.
+ * <p>
+ * Solo se usa desde el hilo de eventos de Swing, por lo que no se sincroniza.
+ */
+public final class ButtonSpriteCache {
+    /**
+     * Apariencias posibles de un botón
+     */
+    public enum State { NORMAL, HOVER, PRESSED, DISABLED }
+    
+    private static final int MAX_ENTRIES = Math.max(8, Integer.getInteger("pong.buttonCacheSize", 64));
+    private static final int CORNER_ARC = 15;
+    
+    private static final Map<Key, BufferedImage> SPRITES = new LinkedHashMap<Key, BufferedImage>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+            if (size() > MAX_ENTRIES) {
+                eldest.getValue().flush();
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    private static int hits;
+    private static int misses;
+    
+    private ButtonSpriteCache() {
+    }
+    
+    /**
+     * Devuelve la imagen del botón, rasterizándola si no estaba en la caché
+     * @param config configuración gráfica del botón, o null si aún no se muestra
+     * @param metrics métricas de la fuente del botón
+     */
+    public static BufferedImage get(int width, int height, boolean round, State state,
+                                    Color buttonColor, Color textColor, String text,
+                                    FontMetrics metrics, GraphicsConfiguration config) {
+        Key key = new Key(width, height, round, state, buttonColor.getRGB(), textColor.getRGB(),
+            text, metrics.getFont());
+        BufferedImage sprite = SPRITES.get(key);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        
+        misses++;
+        sprite = render(width, height, round, state, buttonColor, textColor, text, metrics, config);
+        SPRITES.put(key, sprite);
+        return sprite;
+    }
+    
+    /**
+     * Vacía la caché, por ejemplo al cambiar de pantalla física
+     */
+    public static void clear() {
+        for (BufferedImage sprite : SPRITES.values()) {
+            sprite.flush();
+        }
+        SPRITES.clear();
+    }
+    
+    // Estadísticas
+    public static int getSize() { return SPRITES.size(); }
+    public static int getHits() { return hits; }
+    public static int getMisses() { return misses; }
+    
+    private static BufferedImage render(int width, int height, boolean round, State state,
+                                        Color buttonColor, Color textColor, String text,
+                                        FontMetrics metrics, GraphicsConfiguration config) {
+        BufferedImage image = config != null
+            ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        
+        // Color base con efectos de hover y presionado
+        Color baseColor = buttonColor;
+        if (state == State.PRESSED) {
+            baseColor = baseColor.darker();
+        } else if (state == State.HOVER) {
+            baseColor = baseColor.brighter();
+        }
+        
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            
+            // Fondo
+            g2d.setColor(baseColor);
+            if (round) {
+                g2d.fillOval(0, 0, width, height);
+            } else {
+                g2d.fillRoundRect(0, 0, width, height, CORNER_ARC, CORNER_ARC);
+            }
+            
+            // Borde
+            g2d.setColor(baseColor.darker());
+            if (round) {
+                g2d.drawOval(0, 0, width - 1, height - 1);
+            } else {
+                g2d.drawRoundRect(0, 0, width - 1, height - 1, CORNER_ARC, CORNER_ARC);
+            }
+            
+            // Texto centrado, como lo colocaría el ButtonUI por defecto
+            if (text != null && !text.isEmpty()) {
+                g2d.setColor(state == State.DISABLED ? getDisabledTextColor() : textColor);
+                g2d.setFont(metrics.getFont());
+                int textWidth = metrics.stringWidth(text);
+                int textHeight = metrics.getHeight();
+                g2d.drawString(text, (width - textWidth) / 2, (height - textHeight) / 2 + metrics.getAscent());
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+    
+    private static Color getDisabledTextColor() {
+        Color color = UIManager.getColor("Button.disabledText");
+        return color != null ? color : Color.GRAY;
+    }
+    
+    /**
+     * Clave de la caché. Los colores se comparan por valor RGB para que
+     * dos temas con el mismo color compartan imágenes.
+     */
+    private static final class Key {
+        private final int width;
+        private final int height;
+        private final boolean round;
+        private final State state;
+        private final int buttonRgb;
+        private final int textRgb;
+        private final String text;
+        private final Font font;
+        private final int hash;
+        
+        Key(int width, int height, boolean round, State state, int buttonRgb, int textRgb, String text, Font font) {
+            this.width = width;
+            this.height = height;
+            this.round = round;
+            this.state = state;
+            this.buttonRgb = buttonRgb;
+            this.textRgb = textRgb;
+            this.text = text;
+            this.font = font;
+            this.hash = Objects.hash(width, height, round, state, buttonRgb, textRgb, text, font);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height && round == other.round
+                && state == other.state && buttonRgb == other.buttonRgb && textRgb == other.textRgb
+                && Objects.equals(text, other.text) && font.equals(other.font);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
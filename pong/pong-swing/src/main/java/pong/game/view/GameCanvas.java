@@ -0,0 +1,160 @@
+package pong.game.view;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.Constructor;
+
+/**
+ * Lienzo de renderizado activo para la pantalla de juego.
+ * En lugar de pedir un repaint() y esperar a que el RepaintManager de Swing
+ * lo programe, el bucle del juego dibuja directamente en un BufferStrategy
+ * de dos o tres búferes y lo presenta en el mismo tick.
+ * <p>
+ * Se activa con {@code -Dpong.activeRendering=true}. El número de búferes se
+ * configura con {@code pong.buffers} (2 o 3) y la sincronización vertical con
+ * {@code pong.vsync=true}, que además requiere
+ * {@code --add-exports java.desktop/sun.java2d.pipe.hw=ALL-UNNAMED}.
+ */
+public class GameCanvas extends Canvas {
+    private static final String VSYNC_CAPABILITIES_CLASS = "sun.java2d.pipe.hw.ExtendedBufferCapabilities";
+    
+    private final int bufferCount;
+    private final boolean vsync;
+    private FrameRenderer lastRenderer;
+    
+    /**
+     * Dibuja un fotograma en el contexto gráfico del búfer trasero
+     */
+    public interface FrameRenderer {
+        void renderFrame(Graphics g);
+    }
+    
+    /**
+     * Indica si el renderizado activo está habilitado por configuración
+     */
+    public static boolean isActiveRenderingEnabled() {
+        return Boolean.getBoolean("pong.activeRendering");
+    }
+    
+    /**
+     * Crea el lienzo con la configuración de las propiedades del sistema
+     */
+    public GameCanvas() {
+        this(Integer.getInteger("pong.buffers", 2), Boolean.getBoolean("pong.vsync"));
+    }
+    
+    /**
+     * Crea el lienzo
+     * @param bufferCount número de búferes (2 o 3)
+     * @param vsync si se debe intentar sincronizar con el refresco vertical
+     */
+    public GameCanvas(int bufferCount, boolean vsync) {
+        this.bufferCount = Math.max(2, Math.min(3, bufferCount));
+        this.vsync = vsync;
+        setFocusable(false);
+    }
+    
+    /**
+     * El lienzo solo recibe fotogramas cuando la partida cambia; si el sistema
+     * pide repintar (por ejemplo al restaurar la ventana) se presenta de nuevo
+     * el último fotograma
+     */
+    @Override
+    public void paint(Graphics g) {
+        if (lastRenderer != null) {
+            render(lastRenderer);
+        }
+    }
+    
+    @Override
+    public void update(Graphics g) {
+        paint(g); // Sin borrar el fondo, para evitar parpadeo
+    }
+    
+    /**
+     * Dibuja y presenta un fotograma
+     * @param renderer código de dibujado del fotograma
+     * @return false si el lienzo aún no puede mostrarse
+     */
+    public boolean render(FrameRenderer renderer) {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        lastRenderer = renderer;
+        
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createStrategy();
+            strategy = getBufferStrategy();
+        }
+        
+        // Bucle estándar de BufferStrategy: los búferes pueden perderse en cualquier momento
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    renderer.renderFrame(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            
+            strategy.show();
+        } while (strategy.contentsLost());
+        
+        // Evita que el sistema de ventanas acumule fotogramas en algunas plataformas
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+    
+    /**
+     * Crea el BufferStrategy probando de más a menos exigente
+     */
+    private void createStrategy() {
+        if (vsync) {
+            try {
+                createBufferStrategy(bufferCount, createVSyncCapabilities());
+                System.out.println("Renderizado activo: " + bufferCount + " búferes con vsync");
+                return;
+            } catch (ReflectiveOperationException | AWTException | RuntimeException e) {
+                System.err.println("No se pudo activar vsync: " + e.getMessage());
+            }
+        }
+        
+        try {
+            createBufferStrategy(bufferCount, new BufferCapabilities(
+                new ImageCapabilities(true), new ImageCapabilities(true),
+                BufferCapabilities.FlipContents.UNDEFINED));
+            System.out.println("Renderizado activo: " + bufferCount + " búferes con page flipping");
+        } catch (AWTException e) {
+            createBufferStrategy(bufferCount);
+            System.out.println("Renderizado activo: " + bufferCount + " búferes");
+        }
+    }
+    
+    /**
+     * Construye unas capacidades con vsync mediante la clase interna del JDK
+     */
+    private static BufferCapabilities createVSyncCapabilities() throws ReflectiveOperationException {
+        Class<?> capsClass = Class.forName(VSYNC_CAPABILITIES_CLASS);
+        Class<?> vsyncType = Class.forName(VSYNC_CAPABILITIES_CLASS + "$VSyncType");
+        
+        Object vsyncOn = null;
+        for (Object constant : vsyncType.getEnumConstants()) {
+            if ("VSYNC_ON".equals(((Enum<?>) constant).name())) {
+                vsyncOn = constant;
+            }
+        }
+        
+        Constructor<?> constructor = capsClass.getConstructor(BufferCapabilities.class, vsyncType);
+        BufferCapabilities base = new BufferCapabilities(
+            new ImageCapabilities(true), new ImageCapabilities(true),
+            BufferCapabilities.FlipContents.UNDEFINED);
+        return (BufferCapabilities) constructor.newInstance(base, vsyncOn);
+    }
+}
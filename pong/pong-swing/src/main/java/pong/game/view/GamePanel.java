@@ -5,7 +5,7 @@ import pong.game.controller.InputController;
 import pong.game.view.screens.*;
 import pong.game.model.GameModel;
 import javax.swing.JPanel;
-import javax.swing.Timer;
+import javax.swing.SwingUtilities;
 import java.awt.Graphics;
 import java.awt.Color;
 import java.awt.Font;
@@ -15,7 +15,8 @@ import java.awt.Font;
  * Implementación MVC estricta
  */
 public class GamePanel extends JPanel {
-
+    private static final Font VERSION_FONT = new Font("Arial", Font.PLAIN, 10);
+    
     private GameController controller;
     private InputController inputController;
     private MenuScreen menuScreen;
@@ -23,6 +24,8 @@ public class GamePanel extends JPanel {
     private InstructionsScreen instructionsScreen;
     private ThemeScreen themeScreen;
     private DifficultyScreen difficultyScreen;
+    private GameCanvas gameCanvas;
+    private TickScheduler tickScheduler;
     
     private enum ScreenState {MAIN_MENU, GAME, INSTRUCTIONS, DIFFICULTY, THEMES}
     private ScreenState currentScreen = ScreenState.MAIN_MENU;
@@ -40,38 +43,48 @@ public class GamePanel extends JPanel {
         inputController = new InputController(controller);
         addKeyListener(inputController);
         
-        // Inicializar pantallas - todas usando el controlador
+        // Solo se construyen de entrada el menú y la partida de fondo;
+        // el resto de pantallas se crean la primera vez que se navega a ellas
         menuScreen = new MenuScreen(controller);
         gameScreen = new GameScreen(controller);
-        instructionsScreen = new InstructionsScreen(controller);
-        themeScreen = new ThemeScreen(controller);
-        difficultyScreen = new DifficultyScreen(controller);
-        
-        // Establecer tamaños para todas las pantallas
         menuScreen.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
         gameScreen.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
-        instructionsScreen.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
-        themeScreen.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
-        difficultyScreen.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
-        
-        // Agregar componentes de las pantallas
         add(menuScreen);
         add(gameScreen);
-        add(instructionsScreen);
-        add(themeScreen);
-        add(difficultyScreen);
+        
+        // Lienzo de renderizado activo opcional para la partida
+        if (GameCanvas.isActiveRenderingEnabled()) {
+            gameCanvas = new GameCanvas();
+            gameCanvas.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
+            gameCanvas.setVisible(false);
+            add(gameCanvas, 0);
+            gameScreen.setGameCanvas(gameCanvas);
+        }
+        
+        // Volcar el diagnóstico al salir si hubo ticks lentos
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(controller::dumpDiagnosticsOnExit, "pong-diagnostics"));
+        
+        // Bucle del juego con ritmo adaptativo; arranca al mostrarse la ventana
+        tickScheduler = new TickScheduler(controller);
         
         // Configurar navegación
         controller.setNavigationListener(this::showScreen);
         
         // Mostrar la pantalla inicial
         controller.navigateToMainMenu();
-        
-        // Iniciar el timer para actualizar el juego
-        Timer gameTimer = new Timer(16, _ -> {
-            controller.update();
-        });
-        gameTimer.start();
+    }
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        tickScheduler.attach(SwingUtilities.getWindowAncestor(this));
+    }
+    
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        tickScheduler.attach(null);
     }
     
     /**
@@ -95,6 +108,11 @@ public class GamePanel extends JPanel {
     private void showScreen(ScreenState screen) {
         this.currentScreen = screen;
         
+        // Construye la pantalla de destino si aún no existe y le envía los datos del modelo
+        if (ensureScreen(screen)) {
+            controller.syncViews();
+        }
+        
         // Siempre mantener gameScreen visible, pero en segundo plano
         gameScreen.setVisible(true);
         
@@ -103,9 +121,15 @@ public class GamePanel extends JPanel {
         
         // Hacer visibles solo las pantallas necesarias
         menuScreen.setVisible(screen == ScreenState.MAIN_MENU);
-        instructionsScreen.setVisible(screen == ScreenState.INSTRUCTIONS);
-        themeScreen.setVisible(screen == ScreenState.THEMES);
-        difficultyScreen.setVisible(screen == ScreenState.DIFFICULTY);
+        if (instructionsScreen != null) {
+            instructionsScreen.setVisible(screen == ScreenState.INSTRUCTIONS);
+        }
+        if (themeScreen != null) {
+            themeScreen.setVisible(screen == ScreenState.THEMES);
+        }
+        if (difficultyScreen != null) {
+            difficultyScreen.setVisible(screen == ScreenState.DIFFICULTY);
+        }
         
         // Si estamos en el menú, instrucciones, dificultad o temas, configurar modo demo
         // Solo desactivar la demo cuando estamos jugando realmente
@@ -120,9 +144,62 @@ public class GamePanel extends JPanel {
             setComponentZOrder(gameScreen, 0);
         }
         
+        // El lienzo activo y el repintado por regiones solo se usan durante la partida
+        if (gameCanvas != null) {
+            setComponentZOrder(gameCanvas, 0);
+        }
+        gameScreen.setInForeground(screen == ScreenState.GAME);
+        
+        // La partida va a ritmo completo; los menús pueden ir más despacio
+        tickScheduler.reschedule();
+        
         requestFocus(); // Asegurar que el panel sigue recibiendo eventos de teclado
     }
     
+    /**
+     * Crea la pantalla indicada si todavía no se ha construido
+     * @return true si se acaba de construir
+     */
+    private boolean ensureScreen(ScreenState screen) {
+        JPanel created = null;
+        switch (screen) {
+            case INSTRUCTIONS:
+                if (instructionsScreen == null) {
+                    created = instructionsScreen = new InstructionsScreen(controller);
+                }
+                break;
+            case THEMES:
+                if (themeScreen == null) {
+                    created = themeScreen = new ThemeScreen(controller);
+                }
+                break;
+            case DIFFICULTY:
+                if (difficultyScreen == null) {
+                    created = difficultyScreen = new DifficultyScreen(controller);
+                }
+                break;
+            default:
+                break;
+        }
+        if (created == null) {
+            return false;
+        }
+        
+        created.setBounds(0, 0, PongGame.WIDTH, PongGame.HEIGHT);
+        created.setVisible(false);
+        add(created, 0);
+        return true;
+    }
+    
+    /**
+     * Las pantallas se superponen. Sin esto, repintar la partida de fondo
+     * taparía la pantalla de menú visible, que ya no se repinta en cada tick.
+     */
+    @Override
+    public boolean isOptimizedDrawingEnabled() {
+        return false;
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -130,7 +207,7 @@ public class GamePanel extends JPanel {
         // El renderizado ahora es manejado por las pantallas específicas
         // Este método solo se encarga de pintar elementos comunes a todas las pantallas
         
-        g.setFont(new Font("Arial", Font.PLAIN, 10));
+        g.setFont(VERSION_FONT);
         g.setColor(Color.WHITE);
         g.drawString("Pong v1.0", 5, getHeight() - 5);
     }
@@ -3,17 +3,18 @@ package pong.game.view;
 import javax.swing.JButton;
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 
 /**
  * Un botón con estilo personalizado para la interfaz del juego
  */
 public class ModernButton extends JButton {
+    /** Fuente de todos los botones */
+    public static final Font DEFAULT_FONT = new Font("Arial", Font.BOLD, 18);
+    
     /** Indica si el botón es redondo */
     private boolean isRound = false;
     /** Indica si el cursor está sobre el botón */
@@ -76,54 +77,29 @@ public class ModernButton extends JButton {
     
     @Override
     protected void paintComponent(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
         int width = getWidth();
         int height = getHeight();
-        
-        // Color base con efectos de hover y presionado
-        Color baseColor = buttonColor;
-        if (isPressed) {
-            baseColor = baseColor.darker();
-        } else if (isHovered) {
-            baseColor = baseColor.brighter();
-        }
-        
-        // Dibuja el fondo del botón
-        g2d.setColor(baseColor);
-        if (isRound) {
-            g2d.fillOval(0, 0, width, height);
-        } else {
-            g2d.fillRoundRect(0, 0, width, height, 15, 15);
+        if (width <= 0 || height <= 0) {
+            return;
         }
         
-        // Dibuja el borde
-        g2d.setColor(baseColor.darker());
-        if (isRound) {
-            g2d.drawOval(0, 0, width - 1, height - 1);
-        } else {
-            g2d.drawRoundRect(0, 0, width - 1, height - 1, 15, 15);
+        // Las imágenes se comparten entre botones y solo se rasterizan una vez por apariencia
+        BufferedImage sprite = ButtonSpriteCache.get(width, height, isRound, getState(),
+            buttonColor, textColor, getText(), getFontMetrics(getFont()), getGraphicsConfiguration());
+        g.drawImage(sprite, 0, 0, null);
+    }
+    
+    /**
+     * Apariencia actual del botón
+     */
+    private ButtonSpriteCache.State getState() {
+        if (!isEnabled()) {
+            return ButtonSpriteCache.State.DISABLED;
         }
-        
-        // Para botones redondos, dibuja el texto manualmente en lugar de usar la implementación predeterminada
-        if (isRound) {
-            String text = getText();
-            if (text != null && !text.isEmpty()) {
-                g2d.setColor(textColor);
-                g2d.setFont(getFont());
-                FontMetrics fm = g2d.getFontMetrics();
-                int textWidth = fm.stringWidth(text);
-                int textHeight = fm.getHeight();
-                g2d.drawString(text, (width - textWidth) / 2, (height - textHeight) / 2 + fm.getAscent());
-            }
-        } else {
-            g2d.dispose();
-            super.paintComponent(g);
-            return;
+        if (isPressed) {
+            return ButtonSpriteCache.State.PRESSED;
         }
-        
-        g2d.dispose();
+        return isHovered ? ButtonSpriteCache.State.HOVER : ButtonSpriteCache.State.NORMAL;
     }
     
     /**
@@ -133,7 +109,7 @@ public class ModernButton extends JButton {
         setFocusPainted(false);
         setBorderPainted(false);
         setContentAreaFilled(false);
-        setFont(new Font("Arial", Font.BOLD, 18));
+        setFont(DEFAULT_FONT);
         setForeground(textColor);
         
         // Eventos de ratón para manejar efectos de hover y presionado
@@ -0,0 +1,108 @@
+package pong.game.view;
+
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+/**
+ * Capa estática de una pantalla de menú (velo semitransparente, títulos y textos)
+ * compuesta de antemano en una única imagen translúcida. Las pantallas se
+ * dibujan sobre la partida de demostración en cada tick; con esta capa cada
+ * fotograma se reduce a una copia de imagen y el contenido solo se vuelve a
+ * componer cuando la pantalla llama a {@link #invalidate()}.
+ */
+public class OverlayLayer {
+    private BufferedImage image;
+    private boolean valid = false;
+    
+    /**
+     * Dibuja el contenido de la capa sobre una imagen transparente
+     */
+    public interface ContentRenderer {
+        void renderContent(Graphics2D g, int width, int height);
+    }
+    
+    /**
+     * Marca el contenido como obsoleto; se recompone en el siguiente dibujado
+     */
+    public void invalidate() {
+        valid = false;
+    }
+    
+    /**
+     * Dibuja la capa, recomponiéndola si es necesario
+     * @param g contexto gráfico de destino
+     * @param target componente sobre el que se dibuja
+     * @param renderer código que dibuja el contenido estático
+     */
+    public void draw(Graphics g, Component target, ContentRenderer renderer) {
+        int width = target.getWidth();
+        int height = target.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            if (image != null) {
+                image.flush();
+            }
+            GraphicsConfiguration config = target.getGraphicsConfiguration();
+            image = config != null
+                ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            valid = false;
+        }
+        
+        if (!valid) {
+            compose(renderer, width, height);
+            valid = true;
+        }
+        
+        g.drawImage(image, 0, 0, null);
+    }
+    
+    private void compose(ContentRenderer renderer, int width, int height) {
+        Graphics2D g2d = image.createGraphics();
+        try {
+            // Limpia la imagen a transparente antes de volver a componerla
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setComposite(AlphaComposite.SrcOver);
+            applyTextHints(g2d);
+            
+            renderer.renderContent(g2d, width, height);
+        } finally {
+            g2d.dispose();
+        }
+    }
+    
+    /**
+     * Aplica el suavizado de texto del escritorio, que Swing usaría al dibujar en pantalla
+     */
+    private static void applyTextHints(Graphics2D g2d) {
+        Object desktopHints = Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+        if (desktopHints instanceof Map) {
+            g2d.addRenderingHints((Map<?, ?>) desktopHints);
+        } else {
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        }
+    }
+    
+    /**
+     * Libera la imagen de la capa
+     */
+    public void flush() {
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+        valid = false;
+    }
+}
@@ -0,0 +1,117 @@
+package pong.game.view;
+
+import pong.game.model.ParticleSystem;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Dibuja las partículas de efectos en un bucle sin reservas de memoria.
+ * <p>
+ * La transparencia se cuantiza en unos pocos niveles. Cuando cambia el tema se
+ * dibuja un pequeño sprite ARGB por tipo, nivel y tamaño, y el fotograma solo
+ * copia sprites con {@code drawImage}. Rellenar figuras con colores
+ * translúcidos pasa en el pipeline software por contextos de pintura que
+ * crean rásteres en cada llamada; copiar una imagen no.
+ */
+public class ParticleRenderer {
+    private static final int ALPHA_LEVELS = 8;
+    
+    // Tamaño máximo con sprite: radio de la estela y lado de chispas y explosiones
+    private static final int MAX_SPRITE_SIZE = 16;
+    
+    // Sprites por tipo de partícula, nivel de transparencia y tamaño
+    private final BufferedImage[][][] sprites =
+        new BufferedImage[ParticleSystem.KIND_COUNT][ALPHA_LEVELS][MAX_SPRITE_SIZE + 1];
+    private final Color[][] colors = new Color[ParticleSystem.KIND_COUNT][ALPHA_LEVELS];
+    private Color trailColor;
+    private Color sparkColor;
+    private Color burstColor;
+    
+    /**
+     * Establece los colores base de cada tipo, redibujando los sprites solo si cambian
+     */
+    public void setColors(Color trailColor, Color sparkColor, Color burstColor) {
+        if (trailColor == this.trailColor && sparkColor == this.sparkColor && burstColor == this.burstColor) {
+            return;
+        }
+        this.trailColor = trailColor;
+        this.sparkColor = sparkColor;
+        this.burstColor = burstColor;
+        fillLevels(ParticleSystem.KIND_TRAIL, trailColor, 140);
+        fillLevels(ParticleSystem.KIND_SPARK, sparkColor, 255);
+        fillLevels(ParticleSystem.KIND_BURST, burstColor, 255);
+    }
+    
+    private void fillLevels(byte kind, Color base, int maxAlpha) {
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            int alpha = maxAlpha * (level + 1) / ALPHA_LEVELS;
+            Color color = new Color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+            colors[kind][level] = color;
+            for (int size = 1; size <= MAX_SPRITE_SIZE; size++) {
+                sprites[kind][level][size] = createSprite(kind, color, size);
+            }
+        }
+    }
+    
+    /**
+     * Dibuja la figura de una partícula en una imagen con fondo transparente
+     * @param size radio para la estela, lado para el resto
+     */
+    private static BufferedImage createSprite(byte kind, Color color, int size) {
+        int extent = kind == ParticleSystem.KIND_TRAIL ? size * 2 : size;
+        BufferedImage sprite = new BufferedImage(extent, extent, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            // Se copia el color tal cual, con su alfa, en lugar de mezclarlo con el fondo vacío
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setColor(color);
+            if (kind == ParticleSystem.KIND_TRAIL) {
+                g2d.fillOval(0, 0, extent, extent);
+            } else {
+                g2d.fillRect(0, 0, extent, extent);
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+    
+    /**
+     * Dibuja todas las partículas vivas
+     */
+    public void draw(Graphics g, ParticleSystem particles) {
+        int count = particles.getActiveCount();
+        if (count == 0 || trailColor == null) {
+            return;
+        }
+        
+        for (int i = 0; i < count; i++) {
+            float lifeFraction = particles.getLifeFraction(i);
+            int level = Math.min(ALPHA_LEVELS - 1, (int) (lifeFraction * ALPHA_LEVELS));
+            byte kind = particles.getKind(i);
+            
+            int size = particles.getSize(i);
+            int px = (int) particles.getX(i);
+            int py = (int) particles.getY(i);
+            if (kind == ParticleSystem.KIND_TRAIL) {
+                // La estela se encoge a medida que se desvanece
+                int radius = Math.max(1, (int) (size * lifeFraction));
+                if (radius <= MAX_SPRITE_SIZE) {
+                    g.drawImage(sprites[kind][level][radius], px - radius, py - radius, null);
+                } else {
+                    g.setColor(colors[kind][level]);
+                    g.fillOval(px - radius, py - radius, radius * 2, radius * 2);
+                }
+            } else if (size >= 1 && size <= MAX_SPRITE_SIZE) {
+                g.drawImage(sprites[kind][level][size], px - size / 2, py - size / 2, null);
+            } else {
+                g.setColor(colors[kind][level]);
+                g.fillRect(px - size / 2, py - size / 2, size, size);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package pong.game.view;
+
+import javax.swing.AbstractAction;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JLayer;
+import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
+
+import java.awt.Dimension;
+import java.awt.GraphicsDevice;
+import java.awt.event.ActionEvent;
+
+import pong.game.model.GameModel;
+
+/**
+ * Main game window for the Pong game.
+ */
+public class PongGame extends JFrame {
+    /** Game width in pixels */
+    public static final int WIDTH = GameModel.WIDTH;
+    
+    /** Game height in pixels */
+    public static final int HEIGHT = GameModel.HEIGHT;
+    
+    private static final String TOGGLE_FULLSCREEN = "toggleFullscreen";
+    
+    private GamePanel gamePanel;
+    
+    /**
+     * Creates and initializes the game window
+     */
+    public PongGame() {
+        setTitle("Pong Game");
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        
+        // Set window icons
+        setIcons();
+        
+        // Create the game panel
+        gamePanel = new GamePanel();
+        gamePanel.setPreferredSize(new Dimension(WIDTH, HEIGHT));
+        
+        if (GameCanvas.isActiveRenderingEnabled()) {
+            // The heavyweight canvas cannot be scaled, so the window keeps the logical size
+            setResizable(false);
+            add(gamePanel);
+        } else {
+            // Render at the logical resolution and scale to the window with a single blit
+            JLayer<JComponent> layer = new JLayer<>(gamePanel, new ScalingLayerUI(WIDTH, HEIGHT));
+            double windowScale = Double.parseDouble(System.getProperty("pong.windowScale", "1"));
+            layer.setPreferredSize(new Dimension((int) (WIDTH * windowScale), (int) (HEIGHT * windowScale)));
+            setResizable(true);
+            add(layer);
+            installFullscreenToggle();
+        }
+        
+        pack();
+        setLocationRelativeTo(null);
+        setVisible(true);
+        
+        if (!GameCanvas.isActiveRenderingEnabled() && Boolean.getBoolean("pong.fullscreen")) {
+            toggleFullscreen();
+        }
+    }
+    
+    /**
+     * Binds F11 to switch between windowed and fullscreen exclusive mode
+     */
+    private void installFullscreenToggle() {
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+            .put(KeyStroke.getKeyStroke("F11"), TOGGLE_FULLSCREEN);
+        getRootPane().getActionMap().put(TOGGLE_FULLSCREEN, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                toggleFullscreen();
+            }
+        });
+    }
+    
+    /**
+     * Switches between windowed and fullscreen exclusive mode.
+     * The game keeps rendering at the logical resolution; only the final blit changes size.
+     */
+    private void toggleFullscreen() {
+        GraphicsDevice device = getGraphicsConfiguration().getDevice();
+        boolean enterFullscreen = device.getFullScreenWindow() != this;
+        if (enterFullscreen && !device.isFullScreenSupported()) {
+            System.out.println("Pantalla completa exclusiva no disponible; se usa ventana maximizada");
+        }
+        
+        // Decorations can only change while the window is not displayable
+        dispose();
+        setUndecorated(enterFullscreen);
+        if (enterFullscreen) {
+            device.setFullScreenWindow(this);
+        } else {
+            device.setFullScreenWindow(null);
+            pack();
+            setLocationRelativeTo(null);
+        }
+        setVisible(true);
+        gamePanel.requestFocusInWindow();
+    }
+    
+    /**
+     * Sets the application icons once the background preloader has decoded them
+     */
+    private void setIcons() {
+        StartupPreloader.getIcons().whenComplete((icons, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                System.err.println("Error al cargar los iconos: " + error.getMessage());
+            } else if (!icons.isEmpty()) {
+                setIconImages(icons);
+                System.out.println("Iconos cargados: " + icons.size() + " tamaños disponibles");
+            } else {
+                System.out.println("No se pudieron encontrar los iconos");
+            }
+        }));
+    }
+}
@@ -0,0 +1,139 @@
+package pong.game.view;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.FontMetrics;
+
+/**
+ * Recursos de dibujado de la pantalla de juego precalculados para un tema.
+ * Se construye una sola vez cada vez que cambia el tema, de modo que el
+ * fotograma no crea fuentes, colores ni cadenas y las puntuaciones se dibujan
+ * desde un atlas de sprites.
+ */
+public class RenderPalette {
+    // Fuentes compartidas por todos los temas
+    public static final Font SCORE_FONT = new Font("Arial", Font.BOLD, 30);
+    public static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 50);
+    public static final Font MESSAGE_FONT = new Font("Arial", Font.BOLD, 30);
+    public static final Font HINT_FONT = new Font("Arial", Font.PLAIN, 20);
+    public static final Font INFO_FONT = new Font("Arial", Font.PLAIN, 14);
+    
+    // Colores de los mensajes
+    public static final Color HIGHLIGHT_COLOR = new Color(255, 215, 0, 220); // Oro semitransparente
+    public static final Color PAUSE_COLOR = new Color(255, 255, 255, 200);   // Blanco semitransparente
+    
+    // Textos fijos
+    public static final String GAME_OVER_TEXT = "FIN DEL JUEGO";
+    public static final String PLAY_AGAIN_TEXT = "Presiona ESPACIO para jugar de nuevo";
+    public static final String PAUSE_TEXT = "PAUSA";
+    public static final String CONTINUE_TEXT = "Presiona ESPACIO para continuar";
+    public static final String MULTIPLAYER_TEXT = "Modo Multijugador";
+    public static final String SINGLE_PLAYER_TEXT = "Un Jugador";
+    
+    private final String themeName;
+    private final Color backgroundColor;
+    private final Color textColor;
+    private final Color dividerColor;
+    private final String themeLabel;
+    
+    // Sprites de las puntuaciones en el color del tema
+    private final ScoreAtlas scoreAtlas;
+    
+    // Métricas y anchos precalculados
+    private final FontMetrics messageMetrics;
+    private final FontMetrics titleMetrics;
+    private final FontMetrics hintMetrics;
+    private final int gameOverWidth;
+    private final int playAgainWidth;
+    private final int pauseWidth;
+    private final int continueWidth;
+    
+    // Memoria del último mensaje para no recalcular su ancho en cada fotograma
+    private String lastMessage;
+    private int lastMessageWidth;
+    private String lastWinner;
+    private String lastWinnerText;
+    private int lastWinnerWidth;
+    
+    /**
+     * Construye la paleta para un tema
+     * @param themeName nombre del tema
+     * @param backgroundColor color de fondo
+     * @param textColor color del texto
+     * @param dividerColor color del divisor
+     * @param metricsSource componente del que obtener las métricas de las fuentes
+     */
+    public RenderPalette(String themeName, Color backgroundColor, Color textColor,
+                         Color dividerColor, Component metricsSource) {
+        this.themeName = themeName;
+        this.backgroundColor = backgroundColor;
+        this.textColor = textColor;
+        this.dividerColor = dividerColor;
+        this.themeLabel = "Tema: " + themeName;
+        
+        this.scoreAtlas = new ScoreAtlas(SCORE_FONT, textColor, metricsSource);
+        
+        messageMetrics = metricsSource.getFontMetrics(MESSAGE_FONT);
+        titleMetrics = metricsSource.getFontMetrics(TITLE_FONT);
+        hintMetrics = metricsSource.getFontMetrics(HINT_FONT);
+        gameOverWidth = titleMetrics.stringWidth(GAME_OVER_TEXT);
+        playAgainWidth = hintMetrics.stringWidth(PLAY_AGAIN_TEXT);
+        pauseWidth = titleMetrics.stringWidth(PAUSE_TEXT);
+        continueWidth = hintMetrics.stringWidth(CONTINUE_TEXT);
+    }
+    
+    /**
+     * Indica si la paleta corresponde a los datos de tema indicados
+     */
+    public boolean matches(String themeName, Color backgroundColor, Color textColor, Color dividerColor) {
+        return this.themeName.equals(themeName)
+            && this.backgroundColor.equals(backgroundColor)
+            && this.textColor.equals(textColor)
+            && this.dividerColor.equals(dividerColor);
+    }
+    
+    /**
+     * Ancho de un mensaje en la fuente de mensajes.
+     * Los mensajes llegan como constantes, así que basta recordar el último.
+     */
+    public int getMessageWidth(String message) {
+        if (message != lastMessage) {
+            lastMessage = message;
+            lastMessageWidth = messageMetrics.stringWidth(message);
+        }
+        return lastMessageWidth;
+    }
+    
+    /**
+     * Texto del ganador ("X Gana!"), construido solo cuando cambia el ganador
+     */
+    public String getWinnerText(String winner) {
+        updateWinner(winner);
+        return lastWinnerText;
+    }
+    
+    public int getWinnerWidth(String winner) {
+        updateWinner(winner);
+        return lastWinnerWidth;
+    }
+    
+    private void updateWinner(String winner) {
+        if (winner != lastWinner) {
+            lastWinner = winner;
+            lastWinnerText = winner + " Gana!";
+            lastWinnerWidth = messageMetrics.stringWidth(lastWinnerText);
+        }
+    }
+    
+    // Getters
+    public Color getBackgroundColor() { return backgroundColor; }
+    public Color getTextColor() { return textColor; }
+    public Color getDividerColor() { return dividerColor; }
+    public String getThemeLabel() { return themeLabel; }
+    public ScoreAtlas getScoreAtlas() { return scoreAtlas; }
+    public int getGameOverWidth() { return gameOverWidth; }
+    public int getPlayAgainWidth() { return playAgainWidth; }
+    public int getPauseWidth() { return pauseWidth; }
+    public int getContinueWidth() { return continueWidth; }
+}
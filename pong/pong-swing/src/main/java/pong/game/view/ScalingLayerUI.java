@@ -0,0 +1,302 @@
+package pong.game.view;
+
+import javax.swing.JComponent;
+import javax.swing.JLayer;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import javax.swing.plaf.LayerUI;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.VolatileImage;
+
+/**
+ * Escala todo el juego desde una resolución lógica fija al tamaño de la ventana.
+ * <p>
+ * La vista se coloca siempre con su tamaño lógico (800x600) y se dibuja en un
+ * búfer trasero acelerado de ese mismo tamaño; después se copia a la ventana con
+ * un único drawImage escalado, centrado y con bandas negras si la proporción
+ * no coincide. El coste de dibujar cada objeto no depende por tanto del tamaño
+ * de la pantalla. La escala tiene en cuenta el factor HiDPI del monitor; con
+ * {@code pong.integerScaling=true} se redondea a un múltiplo entero de píxeles
+ * físicos para que la imagen quede nítida.
+ * <p>
+ * Como el {@code JLayer} es el origen de todos los repintados, las regiones
+ * sucias de las pantallas se traducen aquí a coordenadas de ventana, y los
+ * eventos de ratón se traducen a coordenadas lógicas antes de reenviarlos al
+ * componente que hay bajo el cursor.
+ */
+public class ScalingLayerUI extends LayerUI<JComponent> {
+    private static final Color LETTERBOX_COLOR = Color.BLACK;
+    
+    private final int logicalWidth;
+    private final int logicalHeight;
+    private final boolean integerScaling;
+    
+    private VolatileImage backBuffer;
+    
+    // Transformación lógica -> ventana, en coordenadas de usuario de la ventana
+    private double scale = 1.0;
+    private double offsetX = 0;
+    private double offsetY = 0;
+    
+    /**
+     * Crea el escalador
+     * @param logicalWidth ancho lógico de la vista
+     * @param logicalHeight alto lógico de la vista
+     */
+    public ScalingLayerUI(int logicalWidth, int logicalHeight) {
+        this.logicalWidth = logicalWidth;
+        this.logicalHeight = logicalHeight;
+        this.integerScaling = Boolean.getBoolean("pong.integerScaling");
+    }
+    
+    @Override
+    public void installUI(JComponent c) {
+        super.installUI(c);
+        JLayer<?> layer = (JLayer<?>) c;
+        
+        // El búfer trasero ya hace de doble búfer; el de Swing pintaría la vista sin escalar
+        RepaintManager.currentManager(layer).setDoubleBufferingEnabled(false);
+        layer.setOpaque(true);
+        
+        MouseForwarder forwarder = new MouseForwarder(layer);
+        layer.getGlassPane().addMouseListener(forwarder);
+        layer.getGlassPane().addMouseMotionListener(forwarder);
+    }
+    
+    @Override
+    public void uninstallUI(JComponent c) {
+        super.uninstallUI(c);
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+    }
+    
+    @Override
+    public void doLayout(JLayer<? extends JComponent> l) {
+        if (l.getView() != null) {
+            l.getView().setBounds(0, 0, logicalWidth, logicalHeight);
+        }
+        l.getGlassPane().setBounds(0, 0, l.getWidth(), l.getHeight());
+        updateViewport(l);
+    }
+    
+    /**
+     * Recalcula la escala y el desplazamiento para el tamaño actual
+     */
+    private void updateViewport(JLayer<?> l) {
+        GraphicsConfiguration config = l.getGraphicsConfiguration();
+        double deviceScale = config != null ? config.getDefaultTransform().getScaleX() : 1.0;
+        
+        // La escala se elige en píxeles físicos y se pasa a coordenadas de usuario
+        double deviceWidth = l.getWidth() * deviceScale;
+        double deviceHeight = l.getHeight() * deviceScale;
+        double deviceFit = Math.min(deviceWidth / logicalWidth, deviceHeight / logicalHeight);
+        if (integerScaling && deviceFit >= 1) {
+            deviceFit = Math.floor(deviceFit);
+        }
+        
+        scale = Math.max(deviceFit, 0.01) / deviceScale;
+        offsetX = Math.floor((l.getWidth() - logicalWidth * scale) / 2);
+        offsetY = Math.floor((l.getHeight() - logicalHeight * scale) / 2);
+    }
+    
+    /**
+     * Las regiones sucias llegan en coordenadas lógicas; se repinta la región
+     * equivalente de la ventana
+     */
+    @Override
+    public void paintImmediately(int x, int y, int width, int height, JLayer<? extends JComponent> l) {
+        int left = (int) Math.floor(offsetX + x * scale) - 1;
+        int top = (int) Math.floor(offsetY + y * scale) - 1;
+        int right = (int) Math.ceil(offsetX + (x + width) * scale) + 1;
+        int bottom = (int) Math.ceil(offsetY + (y + height) * scale) + 1;
+        l.paintImmediately(left, top, right - left, bottom - top);
+    }
+    
+    @Override
+    public void paint(Graphics g, JComponent c) {
+        JLayer<?> layer = (JLayer<?>) c;
+        Component view = layer.getView();
+        Graphics2D g2d = (Graphics2D) g;
+        updateViewport(layer);
+        
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, layer.getWidth(), layer.getHeight());
+        }
+        
+        int destX = (int) offsetX;
+        int destY = (int) offsetY;
+        int destWidth = (int) Math.round(logicalWidth * scale);
+        int destHeight = (int) Math.round(logicalHeight * scale);
+        
+        // Bandas negras fuera de la imagen
+        if (!new Rectangle(destX, destY, destWidth, destHeight).contains(clip)) {
+            g2d.setColor(LETTERBOX_COLOR);
+            g2d.fillRect(clip.x, clip.y, clip.width, clip.height);
+        }
+        if (view == null) {
+            return;
+        }
+        
+        // Región lógica afectada por el recorte
+        Rectangle logicalClip = toLogical(clip).intersection(new Rectangle(0, 0, logicalWidth, logicalHeight));
+        if (logicalClip.isEmpty()) {
+            return;
+        }
+        
+        // Bucle estándar de VolatileImage: el contenido puede perderse en cualquier momento
+        GraphicsConfiguration config = layer.getGraphicsConfiguration();
+        do {
+            boolean fullRender = false;
+            if (config != null) {
+                int status = backBuffer == null
+                    ? VolatileImage.IMAGE_INCOMPATIBLE : backBuffer.validate(config);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    if (backBuffer != null) {
+                        backBuffer.flush();
+                    }
+                    backBuffer = config.createCompatibleVolatileImage(logicalWidth, logicalHeight);
+                    fullRender = true;
+                } else if (status == VolatileImage.IMAGE_RESTORED) {
+                    fullRender = true;
+                }
+            }
+            if (backBuffer == null) {
+                // Sin configuración gráfica no hay búfer acelerado: se dibuja escalando directamente
+                Graphics2D direct = (Graphics2D) g2d.create();
+                try {
+                    direct.translate(offsetX, offsetY);
+                    direct.scale(scale, scale);
+                    view.paint(direct);
+                } finally {
+                    direct.dispose();
+                }
+                return;
+            }
+            
+            Graphics2D bufferGraphics = backBuffer.createGraphics();
+            try {
+                bufferGraphics.setClip(fullRender ? new Rectangle(0, 0, logicalWidth, logicalHeight) : logicalClip);
+                view.paint(bufferGraphics);
+            } finally {
+                bufferGraphics.dispose();
+            }
+            
+            // Una única copia escalada; el recorte limita los píxeles que se tocan
+            Object interpolation = isIntegral(scale * deviceScale(g2d))
+                ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+                : RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2d.drawImage(backBuffer, destX, destY, destWidth, destHeight, null);
+        } while (backBuffer.contentsLost());
+    }
+    
+    private Rectangle toLogical(Rectangle r) {
+        int left = (int) Math.floor((r.x - offsetX) / scale);
+        int top = (int) Math.floor((r.y - offsetY) / scale);
+        int right = (int) Math.ceil((r.x + r.width - offsetX) / scale);
+        int bottom = (int) Math.ceil((r.y + r.height - offsetY) / scale);
+        // Un píxel de margen para el filtrado bilineal en los bordes
+        return new Rectangle(left - 1, top - 1, right - left + 2, bottom - top + 2);
+    }
+    
+    private Point toLogical(Point p) {
+        return new Point((int) Math.floor((p.x - offsetX) / scale), (int) Math.floor((p.y - offsetY) / scale));
+    }
+    
+    private static double deviceScale(Graphics2D g2d) {
+        return g2d.getTransform().getScaleX();
+    }
+    
+    private static boolean isIntegral(double value) {
+        return Math.abs(value - Math.rint(value)) < 1e-6;
+    }
+    
+    /**
+     * Recibe los eventos de ratón en el cristal del JLayer, que cubre toda la
+     * ventana, y los reenvía en coordenadas lógicas al componente bajo el cursor.
+     * Genera las entradas y salidas que los botones usan para el efecto hover.
+     */
+    private final class MouseForwarder extends MouseAdapter {
+        private final JLayer<?> layer;
+        private Component hovered;
+        private Component pressed;
+        
+        MouseForwarder(JLayer<?> layer) {
+            this.layer = layer;
+        }
+        
+        @Override public void mousePressed(MouseEvent e) { forward(e); }
+        @Override public void mouseReleased(MouseEvent e) { forward(e); }
+        @Override public void mouseClicked(MouseEvent e) { forward(e); }
+        @Override public void mouseMoved(MouseEvent e) { forward(e); }
+        @Override public void mouseDragged(MouseEvent e) { forward(e); }
+        @Override public void mouseEntered(MouseEvent e) { forward(e); }
+        
+        @Override
+        public void mouseExited(MouseEvent e) {
+            updateHover(null, e);
+        }
+        
+        private void forward(MouseEvent e) {
+            Component view = layer.getView();
+            if (view == null) {
+                return;
+            }
+            
+            Point logical = toLogical(e.getPoint());
+            Component underCursor = SwingUtilities.getDeepestComponentAt(view, logical.x, logical.y);
+            int id = e.getID();
+            
+            // Arrastres, liberaciones y clics van al componente donde se pulsó
+            Component target = underCursor;
+            if (pressed != null && (id == MouseEvent.MOUSE_DRAGGED
+                    || id == MouseEvent.MOUSE_RELEASED || id == MouseEvent.MOUSE_CLICKED)) {
+                target = pressed;
+            }
+            if (id == MouseEvent.MOUSE_PRESSED) {
+                pressed = underCursor;
+            }
+            
+            updateHover(underCursor, e);
+            if (id != MouseEvent.MOUSE_ENTERED && target != null) {
+                dispatch(target, id, e, SwingUtilities.convertPoint(view, logical, target));
+            }
+            if (id == MouseEvent.MOUSE_CLICKED) {
+                pressed = null;
+            }
+        }
+        
+        private void updateHover(Component underCursor, MouseEvent e) {
+            if (underCursor == hovered) {
+                return;
+            }
+            Component view = layer.getView();
+            Point logical = toLogical(e.getPoint());
+            if (hovered != null) {
+                dispatch(hovered, MouseEvent.MOUSE_EXITED, e, SwingUtilities.convertPoint(view, logical, hovered));
+            }
+            hovered = underCursor;
+            if (hovered != null) {
+                dispatch(hovered, MouseEvent.MOUSE_ENTERED, e, SwingUtilities.convertPoint(view, logical, hovered));
+            }
+        }
+        
+        private void dispatch(Component target, int id, MouseEvent source, Point point) {
+            target.dispatchEvent(new MouseEvent(target, id, source.getWhen(), source.getModifiersEx(),
+                point.x, point.y, source.getXOnScreen(), source.getYOnScreen(),
+                source.getClickCount(), source.isPopupTrigger(), source.getButton()));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package pong.game.view;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Atlas de sprites con los dígitos 0-9 y las etiquetas "P1:" y "P2:"
+ * prerrenderizados en el color del tema. Dibujar una puntuación se reduce a
+ * unas pocas copias de imagen, sin pasar por el rasterizador de fuentes.
+ */
+public class ScoreAtlas {
+    public static final int LABEL_PLAYER_ONE = 10;
+    public static final int LABEL_PLAYER_TWO = 11;
+    
+    private static final String[] GLYPHS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "P1:", "P2:"};
+    private static final int PADDING = 2; // Margen para trazos que sobresalen del avance
+    
+    private final BufferedImage image;
+    private final int[] cellX = new int[GLYPHS.length];
+    private final int[] advance = new int[GLYPHS.length];
+    private final int ascent;
+    private final int cellHeight;
+    private final int spaceWidth;
+    
+    /**
+     * Construye el atlas
+     * @param font fuente de las puntuaciones
+     * @param color color del texto
+     * @param metricsSource componente del que obtener las métricas y la configuración gráfica
+     */
+    public ScoreAtlas(Font font, Color color, Component metricsSource) {
+        FontMetrics metrics = metricsSource.getFontMetrics(font);
+        ascent = metrics.getAscent();
+        cellHeight = ascent + metrics.getDescent() + PADDING * 2;
+        spaceWidth = metrics.charWidth(' ');
+        
+        int totalWidth = 0;
+        for (int i = 0; i < GLYPHS.length; i++) {
+            cellX[i] = totalWidth;
+            advance[i] = metrics.stringWidth(GLYPHS[i]);
+            totalWidth += advance[i] + PADDING * 2;
+        }
+        
+        GraphicsConfiguration config = metricsSource.getGraphicsConfiguration();
+        image = config != null
+            ? config.createCompatibleImage(totalWidth, cellHeight, Transparency.TRANSLUCENT)
+            : new BufferedImage(totalWidth, cellHeight, BufferedImage.TYPE_INT_ARGB);
+        
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setFont(font);
+            g2d.setColor(color);
+            for (int i = 0; i < GLYPHS.length; i++) {
+                g2d.drawString(GLYPHS[i], cellX[i] + PADDING, PADDING + ascent);
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+    
+    /**
+     * Dibuja un número entero no negativo
+     * @param g contexto gráfico
+     * @param value número a dibujar
+     * @param x posición horizontal del inicio del texto
+     * @param baseline línea base del texto
+     * @return posición horizontal tras el último dígito
+     */
+    public int drawNumber(Graphics g, int value, int x, int baseline) {
+        int remaining = Math.max(0, value);
+        int divisor = 1;
+        while (remaining / divisor >= 10) {
+            divisor *= 10;
+        }
+        
+        while (divisor > 0) {
+            x = drawGlyph(g, (remaining / divisor) % 10, x, baseline);
+            divisor /= 10;
+        }
+        return x;
+    }
+    
+    /**
+     * Dibuja una etiqueta seguida de un espacio
+     * @param label {@link #LABEL_PLAYER_ONE} o {@link #LABEL_PLAYER_TWO}
+     * @return posición horizontal tras el espacio
+     */
+    public int drawLabel(Graphics g, int label, int x, int baseline) {
+        return drawGlyph(g, label, x, baseline) + spaceWidth;
+    }
+    
+    private int drawGlyph(Graphics g, int index, int x, int baseline) {
+        int sourceX = cellX[index];
+        int width = advance[index] + PADDING * 2;
+        int destX = x - PADDING;
+        int destY = baseline - ascent - PADDING;
+        g.drawImage(image,
+            destX, destY, destX + width, destY + cellHeight,
+            sourceX, 0, sourceX + width, cellHeight, null);
+        return x + advance[index];
+    }
+    
+    /**
+     * Libera la imagen del atlas
+     */
+    public void flush() {
+        image.flush();
+    }
+}
@@ -0,0 +1,106 @@
+package pong.game.view;
+
+import javax.imageio.ImageIO;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Carga en segundo plano lo que no hace falta para el primer fotograma.
+ * <p>
+ * Se arranca desde main antes de crear la ventana: mientras el EDT construye
+ * la interfaz, un hilo demonio inicializa el subsistema de fuentes con las
+ * fuentes del juego y decodifica los iconos de la aplicación, que la ventana
+ * aplica cuando están listos.
+ */
+public final class StartupPreloader {
+    private static final int[] ICON_SIZES = {16, 32, 48, 64, 128};
+    
+    private static final CompletableFuture<List<Image>> icons = new CompletableFuture<>();
+    private static boolean started = false;
+    
+    private StartupPreloader() {
+    }
+    
+    /**
+     * Arranca la precarga; las llamadas posteriores no hacen nada
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        
+        Thread thread = new Thread(StartupPreloader::preload, "pong-preload");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        thread.start();
+    }
+    
+    /**
+     * Iconos de la aplicación; si la precarga no se arrancó se cargan al pedirlos
+     */
+    public static CompletableFuture<List<Image>> getIcons() {
+        synchronized (StartupPreloader.class) {
+            if (!started) {
+                started = true;
+                icons.complete(loadIcons());
+            }
+        }
+        return icons;
+    }
+    
+    private static void preload() {
+        // Las fuentes primero: el menú las necesita para su primer fotograma
+        warmUpFonts();
+        icons.complete(loadIcons());
+    }
+    
+    /**
+     * Crea las fuentes del juego y calcula métricas y un texto de prueba para
+     * que la inicialización del gestor de fuentes y del rasterizador no ocurra en el EDT
+     */
+    private static void warmUpFonts() {
+        try {
+            BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scratch.createGraphics();
+            try {
+                for (Font font : new Font[] {RenderPalette.TITLE_FONT, RenderPalette.SCORE_FONT,
+                        RenderPalette.HINT_FONT, ModernButton.DEFAULT_FONT}) {
+                    g.setFont(font);
+                    g.getFontMetrics().stringWidth("Pong 0123456789");
+                    g.drawString("Pong", 0, 0);
+                }
+            } finally {
+                g.dispose();
+            }
+        } catch (RuntimeException e) {
+            System.err.println("No se pudieron precargar las fuentes: " + e.getMessage());
+        }
+    }
+    
+    private static List<Image> loadIcons() {
+        List<Image> loaded = new ArrayList<>();
+        for (int size : ICON_SIZES) {
+            URL iconURL = StartupPreloader.class.getResource("/pong-" + size + ".png");
+            if (iconURL == null) {
+                continue;
+            }
+            try {
+                Image image = ImageIO.read(iconURL);
+                if (image != null) {
+                    loaded.add(image);
+                }
+            } catch (IOException e) {
+                System.err.println("Error al cargar el icono " + size + ": " + e.getMessage());
+            }
+        }
+        return loaded;
+    }
+}
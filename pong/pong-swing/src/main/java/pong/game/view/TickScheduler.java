@@ -0,0 +1,152 @@
+package pong.game.view;
+
+import pong.game.controller.GameController;
+
+import javax.swing.Timer;
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+/**
+ * Planificador adaptativo del bucle del juego.
+ * <p>
+ * Durante la partida el juego avanza a 60 ticks por segundo. Detrás de los
+ * menús la partida de demostración se actualiza con menos frecuencia (y menos
+ * aún si la ventana no tiene el foco), avanzando varios pasos del modelo por
+ * tick para que la demo conserve su velocidad aparente mientras se repinta
+ * menos. Con la ventana minimizada u oculta el temporizador se detiene, y al
+ * volver se reanuda de inmediato.
+ * <p>
+ * Los periodos se configuran con {@code pong.attractTickMs} (33 por defecto) y
+ * {@code pong.idleTickMs} (100 por defecto); {@code pong.lowPower=false}
+ * mantiene siempre el ritmo completo salvo con la ventana minimizada.
+ */
+public class TickScheduler {
+    /** Periodo del bucle durante la partida */
+    public static final int ACTIVE_TICK_MS = 16;
+    
+    /**
+     * Modos de funcionamiento del bucle
+     */
+    public enum Mode {ACTIVE, ATTRACT, IDLE, SUSPENDED}
+    
+    private final GameController controller;
+    private final Timer timer;
+    private final boolean lowPower;
+    private final int attractTickMs;
+    private final int idleTickMs;
+    
+    private Window window;
+    private Mode mode = Mode.SUSPENDED;
+    private int modelSteps = 1;
+    
+    private final WindowAdapter windowListener = new WindowAdapter() {
+        @Override public void windowIconified(WindowEvent e) { reschedule(); }
+        @Override public void windowDeiconified(WindowEvent e) { reschedule(); }
+        @Override public void windowActivated(WindowEvent e) { reschedule(); }
+        @Override public void windowDeactivated(WindowEvent e) { reschedule(); }
+        @Override public void windowStateChanged(WindowEvent e) { reschedule(); }
+        @Override public void windowOpened(WindowEvent e) { reschedule(); }
+        @Override public void windowClosed(WindowEvent e) { reschedule(); }
+    };
+    
+    private final ComponentAdapter visibilityListener = new ComponentAdapter() {
+        @Override public void componentShown(ComponentEvent e) { reschedule(); }
+        @Override public void componentHidden(ComponentEvent e) { reschedule(); }
+    };
+    
+    /**
+     * Crea el planificador; no arranca hasta conocer su ventana
+     * @param controller controlador cuyo bucle se ejecuta en cada tick
+     */
+    public TickScheduler(GameController controller) {
+        this.controller = controller;
+        this.lowPower = !"false".equals(System.getProperty("pong.lowPower"));
+        this.attractTickMs = Math.max(ACTIVE_TICK_MS, Integer.getInteger("pong.attractTickMs", 33));
+        this.idleTickMs = Math.max(attractTickMs, Integer.getInteger("pong.idleTickMs", 100));
+        this.timer = new Timer(ACTIVE_TICK_MS, _ -> controller.update(modelSteps));
+        this.timer.setCoalesce(true);
+    }
+    
+    /**
+     * Vigila una ventana para detectar si está minimizada, oculta o sin foco
+     * @param window ventana que contiene el juego, o null al retirarlo
+     */
+    public void attach(Window window) {
+        if (this.window == window) {
+            return;
+        }
+        if (this.window != null) {
+            this.window.removeWindowListener(windowListener);
+            this.window.removeWindowStateListener(windowListener);
+            this.window.removeComponentListener(visibilityListener);
+        }
+        this.window = window;
+        if (window != null) {
+            window.addWindowListener(windowListener);
+            window.addWindowStateListener(windowListener);
+            window.addComponentListener(visibilityListener);
+        }
+        reschedule();
+    }
+    
+    /**
+     * Recalcula el modo a partir del estado de la ventana y de la pantalla
+     * actual. Se llama en cada cambio de ventana y de pantalla.
+     */
+    public void reschedule() {
+        Mode next = computeMode();
+        if (next == mode) {
+            return;
+        }
+        Mode previous = mode;
+        mode = next;
+        
+        // Los huecos de un cambio de ritmo no son jitter del bucle, y los
+        // intervalos de los menús no se mezclan con los de la partida
+        controller.notifyTickRateChanged(next == Mode.ACTIVE);
+        
+        if (next == Mode.SUSPENDED) {
+            timer.stop();
+            return;
+        }
+        
+        int period = getPeriodMs(next);
+        modelSteps = Math.max(1, Math.round(period / (float) ACTIVE_TICK_MS));
+        timer.setDelay(period);
+        
+        // Al acelerar o al reanudar se ejecuta un tick en cuanto sea posible
+        boolean speedingUp = previous == Mode.SUSPENDED || period < getPeriodMs(previous);
+        timer.setInitialDelay(speedingUp ? 0 : period);
+        timer.restart();
+    }
+    
+    private Mode computeMode() {
+        if (window == null || !window.isShowing() || isIconified()) {
+            return Mode.SUSPENDED;
+        }
+        if (!lowPower || !controller.getModel().isDemoMode()) {
+            return Mode.ACTIVE;
+        }
+        return window.isActive() ? Mode.ATTRACT : Mode.IDLE;
+    }
+    
+    private boolean isIconified() {
+        return window instanceof Frame frame && (frame.getExtendedState() & Frame.ICONIFIED) != 0;
+    }
+    
+    private int getPeriodMs(Mode mode) {
+        return switch (mode) {
+            case ATTRACT -> attractTickMs;
+            case IDLE -> idleTickMs;
+            default -> ACTIVE_TICK_MS;
+        };
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+}
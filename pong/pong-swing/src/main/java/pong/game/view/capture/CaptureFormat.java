@@ -0,0 +1,228 @@
+package pong.game.view.capture;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Formato de las capturas de partida ({@code .pongcap}).
+ * <p>
+ * Cabecera: la firma {@code PONGCAP1}, el ancho y el alto en píxeles.
+ * Después, un registro por fotograma:
+ * <ul>
+ *   <li>el marcador {@code 'F'} y los milisegundos desde el inicio de la captura (varint)</li>
+ *   <li>el número de tramos cambiados respecto al fotograma anterior (varint)</li>
+ *   <li>por tramo: el salto desde el final del tramo anterior y la longitud en
+ *       píxeles (varints), seguidos de las rachas de color que lo cubren como
+ *       pares (longitud varint, RGB de 3 bytes)</li>
+ * </ul>
+ * El fotograma anterior al primero es negro. Como casi todo el campo de Pong
+ * no cambia entre fotogramas, cada registro ocupa unas decenas de bytes.
+ * <p>
+ * Solo se guardan los canales RGB: los bits de alfa se ignoran al comparar y
+ * no cambian el resultado. Una captura cortada a mitad de un registro (por un
+ * cierre brusco del juego) se lee hasta el último fotograma completo.
+ */
+public final class CaptureFormat {
+    public static final String EXTENSION = ".pongcap";
+    
+    private static final byte[] MAGIC = "PONGCAP1".getBytes(StandardCharsets.US_ASCII);
+    private static final int FRAME_MARKER = 'F';
+    
+    // Huecos sin cambios más cortos que esto se incluyen en el tramo para ahorrar cabeceras
+    private static final int MERGE_GAP = 8;
+    
+    private CaptureFormat() {
+    }
+    
+    /**
+     * Escribe la cabecera del fichero
+     */
+    public static void writeHeader(DataOutputStream out, int width, int height) throws IOException {
+        out.write(MAGIC);
+        out.writeInt(width);
+        out.writeInt(height);
+    }
+    
+    /**
+     * Lee la cabecera del fichero
+     * @return ancho y alto de los fotogramas
+     */
+    public static int[] readHeader(DataInputStream in) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("No es una captura de Pong");
+            }
+        }
+        return new int[] {in.readInt(), in.readInt()};
+    }
+    
+    /**
+     * Codifica un fotograma como diferencia con el anterior
+     * @param out flujo de salida
+     * @param timestampMillis milisegundos desde el inicio de la captura
+     * @param current píxeles RGB del fotograma
+     * @param previous píxeles del fotograma anterior; se actualiza con los del actual
+     */
+    public static void writeFrame(DataOutputStream out, long timestampMillis, int[] current, int[] previous)
+            throws IOException {
+        out.writeByte(FRAME_MARKER);
+        writeVarLong(out, timestampMillis);
+        
+        int length = current.length;
+        writeVarInt(out, countSpans(current, previous));
+        
+        int position = 0;
+        int lastEnd = 0;
+        while ((position = nextChange(current, previous, position)) < length) {
+            int end = spanEnd(current, previous, position);
+            
+            writeVarInt(out, position - lastEnd);
+            writeVarInt(out, end - position);
+            writeRuns(out, current, position, end);
+            System.arraycopy(current, position, previous, position, end - position);
+            
+            lastEnd = end;
+            position = end;
+        }
+    }
+    
+    /**
+     * Decodifica el siguiente fotograma sobre los píxeles del anterior
+     * @param in flujo de entrada
+     * @param pixels píxeles del fotograma anterior; se sobrescriben con los del nuevo
+     * @return milisegundos del fotograma desde el inicio, o -1 al final del
+     *         fichero o de la captura. Si el último registro está cortado,
+     *         la parte ya decodificada queda aplicada sobre {@code pixels}.
+     */
+    public static long readFrame(DataInputStream in, int[] pixels) throws IOException {
+        int marker;
+        try {
+            marker = in.readUnsignedByte();
+        } catch (EOFException e) {
+            return -1;
+        }
+        if (marker != FRAME_MARKER) {
+            throw new IOException("Registro de fotograma no válido");
+        }
+        
+        try {
+            return readFrameBody(in, pixels);
+        } catch (EOFException e) {
+            // Captura interrumpida a mitad de un registro
+            return -1;
+        }
+    }
+    
+    private static long readFrameBody(DataInputStream in, int[] pixels) throws IOException {
+        long timestampMillis = readVarLong(in);
+        int spans = readVarInt(in);
+        int position = 0;
+        for (int s = 0; s < spans; s++) {
+            position += readVarInt(in);
+            int end = position + readVarInt(in);
+            if (end > pixels.length) {
+                throw new IOException("Tramo fuera del fotograma");
+            }
+            
+            while (position < end) {
+                int run = readVarInt(in);
+                int rgb = (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+                if (run <= 0 || position + run > end) {
+                    throw new IOException("Racha fuera del tramo");
+                }
+                Arrays.fill(pixels, position, position + run, rgb);
+                position += run;
+            }
+        }
+        return timestampMillis;
+    }
+    
+    private static int countSpans(int[] current, int[] previous) {
+        int count = 0;
+        int position = 0;
+        while ((position = nextChange(current, previous, position)) < current.length) {
+            position = spanEnd(current, previous, position);
+            count++;
+        }
+        return count;
+    }
+    
+    private static int nextChange(int[] current, int[] previous, int from) {
+        int i = from;
+        while (i < current.length && ((current[i] ^ previous[i]) & 0xFFFFFF) == 0) {
+            i++;
+        }
+        return i;
+    }
+    
+    /**
+     * Final del tramo que empieza en {@code start}, uniendo huecos cortos
+     */
+    private static int spanEnd(int[] current, int[] previous, int start) {
+        int end = start;
+        int unchanged = 0;
+        for (int i = start; i < current.length && unchanged < MERGE_GAP; i++) {
+            if (((current[i] ^ previous[i]) & 0xFFFFFF) != 0) {
+                end = i + 1;
+                unchanged = 0;
+            } else {
+                unchanged++;
+            }
+        }
+        return end;
+    }
+    
+    private static void writeRuns(DataOutputStream out, int[] pixels, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            int rgb = pixels[i] & 0xFFFFFF;
+            int runEnd = i + 1;
+            while (runEnd < end && (pixels[runEnd] & 0xFFFFFF) == rgb) {
+                runEnd++;
+            }
+            writeVarInt(out, runEnd - i);
+            out.writeByte(rgb >>> 16);
+            out.writeByte(rgb >>> 8);
+            out.writeByte(rgb);
+            i = runEnd;
+        }
+    }
+    
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+    
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+    
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Valor fuera de rango");
+        }
+        return (int) value;
+    }
+    
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint demasiado largo");
+    }
+}
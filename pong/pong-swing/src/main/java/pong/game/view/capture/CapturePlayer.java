@@ -0,0 +1,148 @@
+package pong.game.view.capture;
+
+import javax.imageio.ImageIO;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Reproduce una captura {@link CaptureFormat}.
+ * <p>
+ * Uso: {@code CapturePlayer <captura> [directorio]}. Sin directorio abre una
+ * ventana que reproduce la captura a su velocidad original; con directorio
+ * exporta cada fotograma como PNG.
+ */
+public class CapturePlayer implements AutoCloseable {
+    private final DataInputStream in;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private long timestampMillis = -1;
+    private int frameIndex = -1;
+    
+    /**
+     * Abre una captura
+     * @param file fichero de captura
+     */
+    public CapturePlayer(Path file) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+        int[] size = CaptureFormat.readHeader(in);
+        image = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_RGB);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+    
+    /**
+     * Decodifica el siguiente fotograma sobre la imagen
+     * @return false al llegar al final de la captura
+     */
+    public boolean nextFrame() throws IOException {
+        long timestamp = CaptureFormat.readFrame(in, pixels);
+        if (timestamp < 0) {
+            return false;
+        }
+        timestampMillis = timestamp;
+        frameIndex++;
+        return true;
+    }
+    
+    /**
+     * Imagen del fotograma actual; se reutiliza entre fotogramas
+     */
+    public BufferedImage getImage() { return image; }
+    public long getTimestampMillis() { return timestampMillis; }
+    public int getFrameIndex() { return frameIndex; }
+    
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+    
+    /**
+     * Exporta todos los fotogramas como PNG numerados
+     * @return número de fotogramas exportados
+     */
+    public int exportFrames(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        while (nextFrame()) {
+            ImageIO.write(image, "png", directory.resolve(String.format("frame-%05d.png", frameIndex)).toFile());
+        }
+        return frameIndex + 1;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: CapturePlayer <captura> [directorio]");
+            System.exit(1);
+        }
+        
+        Path file = Paths.get(args[0]);
+        if (args.length > 1) {
+            try (CapturePlayer player = new CapturePlayer(file)) {
+                int frames = player.exportFrames(Paths.get(args[1]));
+                System.out.println("Exportados " + frames + " fotogramas");
+            }
+            return;
+        }
+        
+        CapturePlayer player = new CapturePlayer(file);
+        SwingUtilities.invokeLater(() -> showWindow(player, file.getFileName().toString()));
+    }
+    
+    /**
+     * Muestra la captura en una ventana respetando los tiempos grabados
+     */
+    private static void showWindow(CapturePlayer player, String title) {
+        JPanel panel = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                g.drawImage(player.getImage(), 0, 0, null);
+            }
+        };
+        panel.setPreferredSize(new Dimension(player.getImage().getWidth(), player.getImage().getHeight()));
+        
+        JFrame frame = new JFrame("Captura - " + title);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setResizable(false);
+        frame.add(panel);
+        frame.pack();
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+        
+        long playbackStart = System.nanoTime();
+        Timer timer = new Timer(5, null);
+        timer.addActionListener(_ -> {
+            try {
+                long elapsedMillis = (System.nanoTime() - playbackStart) / 1_000_000L;
+                
+                // Avanza hasta el fotograma que toca mostrar; los fotogramas
+                // grabados sin cambios entre ellos simplemente no existen
+                boolean advanced = false;
+                while (player.getTimestampMillis() < elapsedMillis) {
+                    if (!player.nextFrame()) {
+                        timer.stop();
+                        player.close();
+                        break;
+                    }
+                    advanced = true;
+                }
+                if (advanced) {
+                    panel.repaint();
+                }
+            } catch (IOException e) {
+                timer.stop();
+                System.err.println("Error al leer la captura: " + e.getMessage());
+            }
+        });
+        timer.start();
+    }
+}
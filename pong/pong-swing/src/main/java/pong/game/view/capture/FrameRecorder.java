@@ -0,0 +1,199 @@
+package pong.game.view.capture;
+
+import pong.game.view.GameCanvas;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Graba los fotogramas de la partida en un fichero {@link CaptureFormat}.
+ * <p>
+ * El hilo del juego dibuja cada fotograma en una imagen tomada de un pool
+ * pequeño y la entrega a un hilo codificador, que calcula la diferencia con el
+ * fotograma anterior y la escribe. Si el codificador se retrasa y no quedan
+ * imágenes libres, el fotograma se descarta y se contabiliza: la captura nunca
+ * bloquea el tick.
+ * <p>
+ * Un gancho de apagado propio termina de escribir los fotogramas pendientes
+ * si la aplicación se cierra con la captura en curso. Solo toca el estado del
+ * grabador, que puede cerrarse desde cualquier hilo y más de una vez.
+ */
+public class FrameRecorder implements AutoCloseable {
+    private static final int POOL_SIZE = 4;
+    
+    private final Path file;
+    private final int width;
+    private final int height;
+    private final long startNanos;
+    
+    // Pool de fotogramas libres y cola hacia el codificador
+    private final BlockingQueue<CapturedFrame> freeFrames = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<CapturedFrame> pendingFrames = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+    private final CapturedFrame endOfStream = new CapturedFrame(null, null);
+    
+    private final Thread encoderThread;
+    private final Thread shutdownHook;
+    private final DataOutputStream out;
+    private volatile IOException failure;
+    private volatile boolean closed = false;
+    
+    // Estadísticas
+    private int framesCaptured = 0;
+    private int framesDropped = 0;
+    private volatile long bytesWritten = 0;
+    
+    /**
+     * Fotograma en el pool, con acceso directo a sus píxeles
+     */
+    private static final class CapturedFrame {
+        final BufferedImage image;
+        final int[] pixels;
+        long timestampNanos;
+        
+        CapturedFrame(BufferedImage image, int[] pixels) {
+            this.image = image;
+            this.pixels = pixels;
+        }
+    }
+    
+    /**
+     * Abre el fichero y arranca el hilo codificador
+     * @param file fichero de salida
+     * @param width ancho de los fotogramas
+     * @param height alto de los fotogramas
+     */
+    public FrameRecorder(Path file, int width, int height) throws IOException {
+        this.file = file;
+        this.width = width;
+        this.height = height;
+        this.startNanos = System.nanoTime();
+        
+        for (int i = 0; i < POOL_SIZE; i++) {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            freeFrames.add(new CapturedFrame(image, pixels));
+        }
+        
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        CaptureFormat.writeHeader(out, width, height);
+        
+        encoderThread = new Thread(this::encodeLoop, "pong-capture");
+        encoderThread.setDaemon(true);
+        encoderThread.start();
+        
+        shutdownHook = new Thread(this::closeOnExit, "pong-capture-close");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+    
+    /**
+     * Dibuja y encola un fotograma. Debe llamarse desde el hilo del juego.
+     * @param renderer código que dibuja el fotograma completo
+     * @return false si el fotograma se descartó por falta de imágenes libres
+     */
+    public boolean capture(GameCanvas.FrameRenderer renderer) {
+        if (closed) {
+            return false;
+        }
+        CapturedFrame frame = freeFrames.poll();
+        if (frame == null || failure != null) {
+            if (frame != null) {
+                freeFrames.offer(frame);
+            }
+            framesDropped++;
+            return false;
+        }
+        
+        frame.timestampNanos = System.nanoTime();
+        Graphics2D g2d = frame.image.createGraphics();
+        try {
+            renderer.renderFrame(g2d);
+        } finally {
+            g2d.dispose();
+        }
+        
+        pendingFrames.offer(frame);
+        framesCaptured++;
+        return true;
+    }
+    
+    /**
+     * Bucle del hilo codificador
+     */
+    private void encodeLoop() {
+        int[] previous = new int[width * height];
+        try {
+            while (true) {
+                CapturedFrame frame = pendingFrames.take();
+                if (frame == endOfStream) {
+                    break;
+                }
+                
+                try {
+                    long millis = (frame.timestampNanos - startNanos) / 1_000_000L;
+                    CaptureFormat.writeFrame(out, millis, frame.pixels, previous);
+                    bytesWritten = out.size();
+                } catch (IOException e) {
+                    failure = e;
+                } finally {
+                    freeFrames.offer(frame);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Termina de codificar los fotogramas pendientes y cierra el fichero.
+     * Las llamadas posteriores no hacen nada.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // La JVM ya se está cerrando: el gancho está en marcha o lo estará
+            }
+        }
+        
+        // La cola tiene un hueco más que el pool, así que el marcador de fin siempre cabe
+        pendingFrames.offer(endOfStream);
+        try {
+            encoderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    private void closeOnExit() {
+        try {
+            close();
+        } catch (IOException e) {
+            System.err.println("Error al guardar la captura: " + e.getMessage());
+        }
+    }
+    
+    // Estadísticas
+    public Path getFile() { return file; }
+    public int getFramesCaptured() { return framesCaptured; }
+    public int getFramesDropped() { return framesDropped; }
+    public long getBytesWritten() { return bytesWritten; }
+}
@@ -1,5 +1,7 @@
 package pong.game.view.interfaces;
 
+import pong.game.controller.dto.PerformanceStatsDTO;
+import pong.game.model.ParticleSystem;
 import java.awt.Color;
 
 /**
@@ -10,6 +12,7 @@ public interface GameScreenInterface extends ViewInterface {
     void setPlayerPaddleData(int x, int y, int width, int height, Color color);
     void setAIPaddleData(int x, int y, int width, int height, Color color);
     void setScore(int playerScore, int aiScore);
+    void setParticles(ParticleSystem particles);
     void setMultiplayerMode(boolean isMultiplayer);
     void setThemeName(String themeName);
     void setBackgroundColor(Color color);
@@ -19,4 +22,7 @@ public interface GameScreenInterface extends ViewInterface {
     void showGameOver(String winner);
     void showDelayMessage(String message);
     void setExitButtonVisible(boolean visible);
+    void showPerformanceOverlay(boolean show);
+    void setPerformanceStats(PerformanceStatsDTO stats);
+    void setCaptureActive(boolean active);
 }
\ No newline at end of file
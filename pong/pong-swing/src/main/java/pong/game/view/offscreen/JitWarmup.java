@@ -0,0 +1,151 @@
+package pong.game.view.offscreen;
+
+import pong.game.model.Theme;
+
+import javax.swing.SwingUtilities;
+import java.awt.image.BufferedImage;
+
+/**
+ * Fase de calentamiento del compilador JIT.
+ * <p>
+ * Simula partidas de demostración sin ventana y dibuja parte de sus fotogramas
+ * en memoria, de modo que la actualización de la pelota, las colisiones, las
+ * partículas y el dibujado de la pantalla de juego llegan compilados a la
+ * primera partida real en lugar de interpretarse durante sus primeros
+ * segundos. Usa modelos propios, así que no toca el estado del juego visible.
+ * <p>
+ * Con ventana se ejecuta en el EDT en tramos cortos, porque crea componentes
+ * Swing, y se cancela al empezar una partida. En un arranque normal compite
+ * con el juego por la CPU, así que solo se hace si se pide con
+ * {@code pong.backgroundWarmup=true}; la ejecución de entrenamiento lo hace
+ * siempre.
+ * <p>
+ * El número de ticks se configura con {@code pong.warmupTicks} (10000 por
+ * defecto, 0 lo desactiva).
+ */
+public final class JitWarmup {
+    /** Ticks simulados por defecto */
+    public static final int DEFAULT_TICKS = Math.max(0, Integer.getInteger("pong.warmupTicks", 10000));
+    
+    /** Si se calienta también en un arranque normal, mientras se muestran los menús */
+    public static final boolean IN_BACKGROUND = Boolean.getBoolean("pong.backgroundWarmup");
+    
+    // Se dibuja uno de cada tantos ticks: el dibujado es mucho más caro que la simulación
+    private static final int RENDER_EVERY = 4;
+    
+    // Duración máxima de cada tramo en el EDT, para no retrasar la entrada ni el pintado
+    private static final long SLICE_NANOS = 2_000_000;
+    
+    private static volatile boolean cancelled = false;
+    
+    private JitWarmup() {
+    }
+    
+    /**
+     * Ejecuta el calentamiento completo en el hilo actual, repartiendo los
+     * ticks entre todos los temas para recorrer también sus paletas. Solo debe
+     * usarse sin ventana.
+     * @param ticks número total de ticks a simular
+     */
+    public static void run(int ticks) {
+        Progress progress = new Progress(ticks);
+        while (progress.advance(Long.MAX_VALUE)) {
+            // Sin plazo, cada llamada avanza hasta el final
+        }
+    }
+    
+    /**
+     * Ejecuta el calentamiento en el EDT en tramos cortos, dejando pasar entre
+     * ellos los eventos de la interfaz
+     * @param ticks número total de ticks a simular
+     * @param onComplete acción al terminar o cancelarse, ejecutada en el EDT, o null
+     */
+    public static void startInSlices(int ticks, Runnable onComplete) {
+        SwingUtilities.invokeLater(new Runnable() {
+            private Progress progress;
+            
+            @Override
+            public void run() {
+                try {
+                    if (progress == null) {
+                        progress = new Progress(ticks);
+                    }
+                    if (progress.advance(System.nanoTime() + SLICE_NANOS)) {
+                        SwingUtilities.invokeLater(this);
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Error durante el calentamiento JIT: " + e.getMessage());
+                }
+                if (onComplete != null) {
+                    onComplete.run();
+                }
+            }
+        });
+    }
+    
+    /**
+     * Detiene el calentamiento en curso y evita los siguientes. Se llama al
+     * empezar una partida, para que no compita con ella.
+     */
+    public static void cancel() {
+        cancelled = true;
+    }
+    
+    /**
+     * Estado de un calentamiento, que puede avanzarse por tramos
+     */
+    private static final class Progress {
+        private final Theme[] themes = Theme.AVAILABLE_THEMES;
+        private final int ticksPerTheme;
+        private final long start = System.nanoTime();
+        private final BufferedImage frame = OffscreenRenderer.createFrameImage();
+        private OffscreenRenderer renderer;
+        private int themeIndex = 0;
+        private int tick = 0;
+        private long ticksDone = 0;
+        
+        Progress(int ticks) {
+            ticksPerTheme = Math.max(1, ticks / themes.length);
+        }
+        
+        /**
+         * Simula ticks hasta terminar, cancelarse o pasar el plazo
+         * @param deadline instante límite según System.nanoTime()
+         * @return true si queda calentamiento pendiente
+         */
+        boolean advance(long deadline) {
+            do {
+                if (cancelled || themeIndex == themes.length) {
+                    finish();
+                    return false;
+                }
+                step();
+            } while (System.nanoTime() < deadline);
+            return true;
+        }
+        
+        private void step() {
+            if (renderer == null) {
+                renderer = new OffscreenRenderer(themes[themeIndex]);
+            }
+            renderer.advance(1);
+            if (tick % RENDER_EVERY == 0) {
+                renderer.render(frame);
+            }
+            ticksDone++;
+            if (++tick == ticksPerTheme) {
+                renderer = null;
+                tick = 0;
+                themeIndex++;
+            }
+        }
+        
+        private void finish() {
+            frame.flush();
+            renderer = null;
+            System.out.printf("Calentamiento JIT%s: %d ticks en %d ms%n", cancelled ? " cancelado" : "",
+                ticksDone, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
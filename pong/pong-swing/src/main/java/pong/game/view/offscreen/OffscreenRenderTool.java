@@ -0,0 +1,78 @@
+package pong.game.view.offscreen;
+
+import pong.game.model.Theme;
+
+import javax.imageio.ImageIO;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Herramienta de línea de comandos que renderiza partidas de demostración sin ventana.
+ * <p>
+ * Uso: {@code OffscreenRenderTool <directorio> [partidas] [fotogramas] [frames|sheet]}
+ * <ul>
+ *   <li>{@code frames}: una secuencia de PNG por partida (por defecto)</li>
+ *   <li>{@code sheet}: una hoja de miniaturas por partida</li>
+ * </ul>
+ * El número de hilos se configura con {@code pong.renderThreads} y
+ * {@code pong.encoderThreads}.
+ */
+public class OffscreenRenderTool {
+    private static final int DEFAULT_MATCHES = 8;
+    private static final int DEFAULT_FRAMES = 300;
+    private static final int TICKS_PER_FRAME = 1;
+    private static final int TICKS_PER_THUMBNAIL = 60;
+    private static final int SHEET_COLUMNS = 8;
+    private static final double THUMBNAIL_SCALE = 0.25;
+    
+    public static void main(String[] args) {
+        // Debe fijarse antes de que se inicialice cualquier clase de AWT
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        
+        if (args.length < 1) {
+            System.err.println("Uso: OffscreenRenderTool <directorio> [partidas] [fotogramas] [frames|sheet]");
+            System.exit(1);
+        }
+        
+        Path outputDir = Paths.get(args[0]);
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MATCHES;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FRAMES;
+        boolean contactSheets = args.length > 3 && "sheet".equals(args[3]);
+        
+        int processors = Runtime.getRuntime().availableProcessors();
+        int renderThreads = Integer.getInteger("pong.renderThreads", Math.max(1, processors / 2));
+        int encoderThreads = Integer.getInteger("pong.encoderThreads", Math.max(1, processors - renderThreads));
+        
+        // La caché en disco de ImageIO solo añade E/S al escribir en ficheros
+        ImageIO.setUseCache(false);
+        
+        long start = System.nanoTime();
+        try (RenderPipeline pipeline = new RenderPipeline(renderThreads, encoderThreads, encoderThreads * 4)) {
+            List<CompletableFuture<Void>> jobs = new ArrayList<>();
+            for (int i = 0; i < matches; i++) {
+                Theme theme = Theme.AVAILABLE_THEMES[i % Theme.AVAILABLE_THEMES.length];
+                String name = String.format("match-%04d", i);
+                
+                if (contactSheets) {
+                    jobs.add(pipeline.renderContactSheet(theme, frames, TICKS_PER_THUMBNAIL,
+                        SHEET_COLUMNS, THUMBNAIL_SCALE, outputDir.resolve(name + ".png")));
+                } else {
+                    jobs.add(pipeline.renderSequence(theme, frames, TICKS_PER_FRAME, outputDir.resolve(name)));
+                }
+            }
+            CompletableFuture.allOf(jobs.toArray(new CompletableFuture<?>[0])).join();
+            
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d partidas, %d fotogramas, %d imágenes en %.1f s (%.0f fotogramas/s)%n",
+                matches, pipeline.getFramesRendered(), pipeline.getImagesEncoded(), seconds,
+                pipeline.getFramesRendered() / seconds);
+            System.out.printf("Dibujado: %.1f s de CPU en %d hilos; codificación: %.1f s en %d hilos%n",
+                pipeline.getRenderNanos() / 1e9, renderThreads, pipeline.getEncodeNanos() / 1e9, encoderThreads);
+        }
+    }
+}
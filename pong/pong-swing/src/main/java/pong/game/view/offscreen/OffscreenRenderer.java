@@ -0,0 +1,80 @@
+package pong.game.view.offscreen;
+
+import pong.game.controller.GameController;
+import pong.game.model.GameModel;
+import pong.game.model.Theme;
+import pong.game.view.PongGame;
+import pong.game.view.screens.GameScreen;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Simula una partida de demostración y dibuja sus fotogramas en imágenes en
+ * memoria, sin ventana. Reutiliza el código de dibujado de {@link GameScreen}
+ * sobre un panel que nunca se muestra, por lo que funciona con
+ * {@code java.awt.headless=true}.
+ * <p>
+ * Cada instancia tiene su propio modelo, controlador y pantalla y debe usarse
+ * desde un único hilo; para renderizar varias partidas en paralelo se crea una
+ * instancia por partida.
+ */
+public class OffscreenRenderer {
+    private final GameController controller;
+    private final GameScreen gameScreen;
+    private long ticks = 0;
+    
+    /**
+     * Crea el renderizador de una partida
+     * @param theme tema con el que se dibuja la partida
+     */
+    public OffscreenRenderer(Theme theme) {
+        GameModel model = new GameModel();
+        model.setDemoMode(true);
+        model.setCurrentScreen("GAME");
+        // Directamente en el modelo: el primer tick lo envía a la pantalla sin anunciarlo por consola
+        model.setCurrentTheme(theme);
+        
+        controller = new GameController(model);
+        gameScreen = new GameScreen(controller);
+        gameScreen.setSize(PongGame.WIDTH, PongGame.HEIGHT);
+    }
+    
+    /**
+     * Avanza la simulación
+     * @param tickCount número de ticks a simular
+     */
+    public void advance(int tickCount) {
+        for (int i = 0; i < tickCount; i++) {
+            controller.simulateTick();
+        }
+        ticks += tickCount;
+    }
+    
+    /**
+     * Dibuja el fotograma actual en una imagen de {@link PongGame#WIDTH} x {@link PongGame#HEIGHT}
+     * @param target imagen de destino
+     */
+    public void render(BufferedImage target) {
+        Graphics2D g2d = target.createGraphics();
+        try {
+            // Sin pantalla no hay preferencias de escritorio: el texto se suaviza siempre
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            gameScreen.renderTo(g2d);
+        } finally {
+            g2d.dispose();
+        }
+    }
+    
+    /**
+     * Crea una imagen del tamaño de un fotograma
+     */
+    public static BufferedImage createFrameImage() {
+        return new BufferedImage(PongGame.WIDTH, PongGame.HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+    
+    public long getTicks() {
+        return ticks;
+    }
+}
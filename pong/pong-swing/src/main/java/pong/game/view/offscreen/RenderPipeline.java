@@ -0,0 +1,232 @@
+package pong.game.view.offscreen;
+
+import pong.game.model.Theme;
+import pong.game.view.PongGame;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tubería de renderizado sin ventana en dos etapas.
+ * <ol>
+ *   <li>Un grupo de hilos simula partidas y dibuja sus fotogramas, una partida por tarea.</li>
+ *   <li>Otro grupo codifica las imágenes a PNG con {@link ImageIO}.</li>
+ * </ol>
+ * Los fotogramas pendientes de codificar están limitados por un semáforo; cuando
+ * los codificadores se retrasan, los hilos de dibujado esperan en lugar de
+ * acumular imágenes en memoria. Las imágenes de fotograma se reutilizan a
+ * través de un pool una vez codificadas.
+ */
+public class RenderPipeline implements AutoCloseable {
+    private final ExecutorService renderWorkers;
+    private final ExecutorService encoders;
+    private final Semaphore pendingFrames;
+    private final ConcurrentLinkedQueue<BufferedImage> framePool = new ConcurrentLinkedQueue<>();
+    
+    // Estadísticas
+    private final AtomicLong framesRendered = new AtomicLong();
+    private final AtomicLong imagesEncoded = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final AtomicLong encodeNanos = new AtomicLong();
+    
+    /**
+     * Crea la tubería
+     * @param renderThreads hilos que simulan y dibujan partidas
+     * @param encoderThreads hilos que codifican PNG
+     * @param maxPendingFrames fotogramas dibujados que pueden esperar a ser codificados
+     */
+    public RenderPipeline(int renderThreads, int encoderThreads, int maxPendingFrames) {
+        this.renderWorkers = Executors.newFixedThreadPool(renderThreads, namedThreads("pong-render"));
+        this.encoders = Executors.newFixedThreadPool(encoderThreads, namedThreads("pong-encode"));
+        this.pendingFrames = new Semaphore(maxPendingFrames);
+    }
+    
+    /**
+     * Renderiza una partida como secuencia de PNG numerados
+     * @param theme tema de la partida
+     * @param frameCount número de fotogramas
+     * @param ticksPerFrame ticks simulados entre fotogramas
+     * @param directory directorio de salida
+     * @return futuro que se completa cuando todos los fotogramas están escritos
+     */
+    public CompletableFuture<Void> renderSequence(Theme theme, int frameCount, int ticksPerFrame, Path directory) {
+        return CompletableFuture.supplyAsync(() -> {
+            createDirectories(directory);
+            OffscreenRenderer renderer = new OffscreenRenderer(theme);
+            List<CompletableFuture<Void>> writes = new ArrayList<>(frameCount);
+            
+            for (int i = 0; i < frameCount; i++) {
+                renderer.advance(ticksPerFrame);
+                BufferedImage frame = acquireFrame();
+                boolean submitted = false;
+                try {
+                    long start = System.nanoTime();
+                    renderer.render(frame);
+                    renderNanos.addAndGet(System.nanoTime() - start);
+                    framesRendered.incrementAndGet();
+                    
+                    writes.add(encode(frame, directory.resolve(String.format("frame-%05d.png", i)), true));
+                    submitted = true;
+                } finally {
+                    // Si el fotograma no llega a la codificación, nadie más libera su permiso
+                    if (!submitted) {
+                        framePool.offer(frame);
+                        pendingFrames.release();
+                    }
+                }
+            }
+            return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]));
+        }, renderWorkers).thenCompose(done -> done);
+    }
+    
+    /**
+     * Renderiza una hoja de miniaturas de una partida
+     * @param theme tema de la partida
+     * @param thumbnailCount número de miniaturas
+     * @param ticksPerThumbnail ticks simulados entre miniaturas
+     * @param columns miniaturas por fila
+     * @param scale escala de cada miniatura respecto al fotograma
+     * @param file fichero PNG de salida
+     * @return futuro que se completa cuando la hoja está escrita
+     */
+    public CompletableFuture<Void> renderContactSheet(Theme theme, int thumbnailCount, int ticksPerThumbnail,
+                                                      int columns, double scale, Path file) {
+        return CompletableFuture.supplyAsync(() -> {
+            OffscreenRenderer renderer = new OffscreenRenderer(theme);
+            BufferedImage frame = OffscreenRenderer.createFrameImage();
+            
+            int thumbWidth = (int) Math.round(PongGame.WIDTH * scale);
+            int thumbHeight = (int) Math.round(PongGame.HEIGHT * scale);
+            int rows = (thumbnailCount + columns - 1) / columns;
+            BufferedImage sheet = new BufferedImage(thumbWidth * columns, thumbHeight * rows, BufferedImage.TYPE_INT_RGB);
+            
+            Graphics2D g2d = sheet.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                for (int i = 0; i < thumbnailCount; i++) {
+                    renderer.advance(ticksPerThumbnail);
+                    
+                    long start = System.nanoTime();
+                    renderer.render(frame);
+                    g2d.drawImage(frame, (i % columns) * thumbWidth, (i / columns) * thumbHeight,
+                        thumbWidth, thumbHeight, null);
+                    renderNanos.addAndGet(System.nanoTime() - start);
+                    framesRendered.incrementAndGet();
+                }
+            } finally {
+                g2d.dispose();
+            }
+            
+            acquirePermit();
+            try {
+                return encode(sheet, file, false);
+            } catch (RuntimeException e) {
+                pendingFrames.release();
+                throw e;
+            }
+        }, renderWorkers).thenCompose(done -> done);
+    }
+    
+    /**
+     * Toma una imagen del pool, esperando si hay demasiados fotogramas pendientes
+     */
+    private BufferedImage acquireFrame() {
+        acquirePermit();
+        BufferedImage frame = framePool.poll();
+        return frame != null ? frame : OffscreenRenderer.createFrameImage();
+    }
+    
+    private void acquirePermit() {
+        try {
+            pendingFrames.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Renderizado interrumpido", e);
+        }
+    }
+    
+    /**
+     * Envía una imagen a la etapa de codificación. El permiso del semáforo ya
+     * debe estar adquirido; se libera al terminar de escribir.
+     * @param pooled si la imagen debe volver al pool de fotogramas
+     */
+    private CompletableFuture<Void> encode(BufferedImage image, Path file, boolean pooled) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                ImageIO.write(image, "png", file.toFile());
+                imagesEncoded.incrementAndGet();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir " + file, e);
+            } finally {
+                encodeNanos.addAndGet(System.nanoTime() - start);
+                if (pooled) {
+                    framePool.offer(image);
+                }
+                pendingFrames.release();
+            }
+        }, encoders);
+    }
+    
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear " + directory, e);
+        }
+    }
+    
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    // Estadísticas
+    public long getFramesRendered() { return framesRendered.get(); }
+    public long getImagesEncoded() { return imagesEncoded.get(); }
+    public long getRenderNanos() { return renderNanos.get(); }
+    public long getEncodeNanos() { return encodeNanos.get(); }
+    
+    /**
+     * Espera a que terminen las tareas en curso y detiene los hilos
+     */
+    @Override
+    public void close() {
+        renderWorkers.shutdown();
+        awaitTermination(renderWorkers);
+        encoders.shutdown();
+        awaitTermination(encoders);
+    }
+    
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                System.err.println("Esperando a que termine el renderizado...");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
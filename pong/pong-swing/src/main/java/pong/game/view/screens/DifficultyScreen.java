@@ -1,13 +1,16 @@
 package pong.game.view.screens;
 
 import pong.game.controller.GameController;
+import pong.game.diagnostics.events.RenderEvent;
 import pong.game.model.GameModel;
 import pong.game.view.ModernButton;
+import pong.game.view.OverlayLayer;
 import pong.game.view.PongGame;
 import pong.game.view.interfaces.DifficultyScreenInterface;
 
 import javax.swing.JPanel;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Font;
 import java.awt.Color;
 import java.awt.event.ActionListener;
@@ -19,6 +22,13 @@ import java.awt.event.MouseEvent;
  * Permite al usuario seleccionar el nivel de dificultad para el juego.
  */
 public class DifficultyScreen extends JPanel implements DifficultyScreenInterface {
+    // Recursos de dibujado
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font CURRENT_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font DESCRIPTION_FONT = new Font("Arial", Font.PLAIN, 16);
+    private static final Font NOTE_FONT = new Font("Arial", Font.ITALIC, 16);
+    private static final Color NOTE_COLOR = new Color(255, 215, 0, 220);
+    
     // Componentes UI
     private ModernButton easyButton;
     private ModernButton mediumButton;
@@ -36,6 +46,10 @@ public class DifficultyScreen extends JPanel implements DifficultyScreenInterfac
     private String currentDifficulty = "Medio";
     private boolean isMultiplayerMode = false;
     
+    // Contenido estático compuesto en una sola imagen
+    private final OverlayLayer overlayLayer = new OverlayLayer();
+    private final OverlayLayer.ContentRenderer overlayRenderer = this::renderOverlay;
+    
     /**
      * Constructor de la pantalla de dificultad.
      * @param controller El controlador del juego
@@ -127,12 +141,14 @@ public class DifficultyScreen extends JPanel implements DifficultyScreenInterfac
             @Override
             public void mouseEntered(MouseEvent evt) {
                 hoverDescription = hoverDesc;
+                overlayLayer.invalidate();
                 repaint();
             }
             
             @Override
             public void mouseExited(MouseEvent evt) {
                 hoverDescription = "";
+                overlayLayer.invalidate();
                 repaint();
             }
         });
@@ -168,39 +184,60 @@ public class DifficultyScreen extends JPanel implements DifficultyScreenInterfac
     
     @Override
     protected void paintComponent(Graphics g) {
+        RenderEvent event = RenderEvent.isRecording() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
         super.paintComponent(g);
         
+        // El overlay y los textos se componen solo cuando cambian el tema, la dificultad o la descripción
+        overlayLayer.draw(g, this, overlayRenderer);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = "DIFFICULTY";
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Dibuja el contenido estático de la pantalla en la capa compuesta
+     */
+    private void renderOverlay(Graphics2D g, int width, int height) {
         // Dibuja overlay semitransparente
         g.setColor(overlayColor);
-        g.fillRect(0, 0, getWidth(), getHeight());
+        g.fillRect(0, 0, width, height);
         
         // Dibuja título - Centrado mejorado
         g.setColor(textColor);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(TITLE_FONT);
         String title = "Selecciona Dificultad";
         int titleWidth = g.getFontMetrics().stringWidth(title);
-        g.drawString(title, getWidth() / 2 - titleWidth / 2, 80);
+        g.drawString(title, width / 2 - titleWidth / 2, 80);
         
         // Dibuja dificultad actual - Centrado mejorado
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(CURRENT_FONT);
         String currentText = "Actual: " + currentDifficulty;
         int currentWidth = g.getFontMetrics().stringWidth(currentText);
-        g.drawString(currentText, getWidth() / 2 - currentWidth / 2, 120);
+        g.drawString(currentText, width / 2 - currentWidth / 2, 120);
         
         // Dibuja descripción al pasar el ratón, si hay alguna
         if (!hoverDescription.isEmpty()) {
-            g.setFont(new Font("Arial", Font.PLAIN, 16));
+            g.setFont(DESCRIPTION_FONT);
             drawMultiLineText(g, hoverDescription, PongGame.WIDTH / 2 - 220, 340);
         }
         
         // Muestra nota sobre modo multijugador si corresponde
         if (isMultiplayerMode) {
-            g.setFont(new Font("Arial", Font.ITALIC, 16));
-            g.setColor(new Color(255, 215, 0, 220)); 
+            g.setFont(NOTE_FONT);
+            g.setColor(NOTE_COLOR);
             
             String note = "Nota: La configuración de dificultad solo aplica en modo un jugador";
             int noteWidth = g.getFontMetrics().stringWidth(note);
-            g.drawString(note, getWidth() / 2 - noteWidth / 2, 450);
+            g.drawString(note, width / 2 - noteWidth / 2, 450);
         }
     }
     
@@ -212,21 +249,33 @@ public class DifficultyScreen extends JPanel implements DifficultyScreenInterfac
     
     @Override
     public void setTextColor(Color color) {
+        if (!color.equals(this.textColor)) {
+            overlayLayer.invalidate();
+        }
         this.textColor = color;
     }
     
     @Override
     public void setOverlayColor(Color color) {
+        if (!color.equals(this.overlayColor)) {
+            overlayLayer.invalidate();
+        }
         this.overlayColor = color;
     }
     
     @Override
     public void setCurrentDifficulty(String difficultyName) {
+        if (!difficultyName.equals(this.currentDifficulty)) {
+            overlayLayer.invalidate();
+        }
         this.currentDifficulty = difficultyName;
     }
     
     @Override
     public void setMultiplayerMode(boolean isMultiplayer) {
+        if (isMultiplayer != this.isMultiplayerMode) {
+            overlayLayer.invalidate();
+        }
         this.isMultiplayerMode = isMultiplayer;
     }
     
@@ -0,0 +1,673 @@
+package pong.game.view.screens;
+
+import pong.game.controller.GameController;
+import pong.game.controller.dto.PerformanceStatsDTO;
+import pong.game.diagnostics.events.RenderEvent;
+import pong.game.model.ParticleSystem;
+import pong.game.view.BackgroundLayer;
+import pong.game.view.GameCanvas;
+import pong.game.view.ModernButton;
+import pong.game.view.ParticleRenderer;
+import pong.game.view.PongGame;
+import pong.game.view.RenderPalette;
+import pong.game.view.ScoreAtlas;
+import pong.game.view.capture.CaptureFormat;
+import pong.game.view.capture.FrameRecorder;
+import pong.game.view.interfaces.GameScreenInterface;
+
+import javax.swing.JPanel;
+import java.awt.Graphics;
+import java.awt.Color;
+import java.awt.Font;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Pantalla del juego en sí. Maneja la representación visual del juego Pong,
+ * incluyendo la pelota, las paletas, puntuaciones y mensajes de estado.
+ */
+public class GameScreen extends JPanel implements GameScreenInterface {
+    // Fuente de la superposición de rendimiento
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.PLAIN, 12);
+    
+    // Repintado por regiones
+    private static final int DIRTY_PADDING = 2;
+    private static final int SCORE_AREA_X = PongGame.WIDTH / 2 - 100;
+    private static final int SCORE_AREA_Y = 10;
+    private static final int SCORE_AREA_WIDTH = 220;
+    private static final int SCORE_AREA_HEIGHT = 55;
+    
+    private GameController controller;
+    private ModernButton exitToMenuButton;
+    
+    // Propiedades de la pelota
+    private int ballX, ballY, ballWidth, ballHeight;
+    private Color ballColor = Color.WHITE;
+    
+    // Propiedades de la paleta del jugador
+    private int playerPaddleX, playerPaddleY, playerPaddleWidth, playerPaddleHeight;
+    private Color playerPaddleColor = Color.WHITE;
+    
+    // Propiedades de la paleta de la IA o segundo jugador
+    private int aiPaddleX, aiPaddleY, aiPaddleWidth, aiPaddleHeight;
+    private Color aiPaddleColor = Color.WHITE;
+    
+    // Propiedades de puntuación
+    private int playerScore = 0;
+    private int aiScore = 0;
+    
+    // Propiedades de configuración
+    private boolean isMultiplayerMode = false;
+    private String themeName = "Classic";
+    private Color backgroundColor = Color.BLACK;
+    private Color textColor = Color.WHITE;
+    private Color dividerColor = Color.WHITE;
+    
+    // Estado del juego
+    private boolean showPause = false;
+    private boolean gameOver = false;
+    private String winnerText = null;
+    private String delayMessage = null;
+    
+    // Recursos de dibujado del tema actual
+    private RenderPalette palette;
+    private final BackgroundLayer backgroundLayer = new BackgroundLayer();
+    
+    // Efectos de partículas
+    private ParticleSystem particles;
+    private final ParticleRenderer particleRenderer = new ParticleRenderer();
+    
+    // Renderizado activo opcional
+    private GameCanvas gameCanvas;
+    private boolean inForeground = false;
+    private final GameCanvas.FrameRenderer frameRenderer = this::renderFrame;
+    
+    // Estado del último fotograma pedido, para repintar solo lo que cambia
+    private boolean fullRepaintNeeded = true;
+    private boolean overlayPainted = false;
+    private boolean frameAccountingSuppressed = false; // Pintados parciales y capturas
+    private int paintedBallX, paintedBallY, paintedBallWidth, paintedBallHeight;
+    private int paintedPlayerPaddleX, paintedPlayerPaddleY, paintedPlayerPaddleWidth, paintedPlayerPaddleHeight;
+    private int paintedAiPaddleX, paintedAiPaddleY, paintedAiPaddleWidth, paintedAiPaddleHeight;
+    private int paintedPlayerScore, paintedAiScore;
+    private boolean paintedParticles = false;
+    private int paintedParticleMinX, paintedParticleMinY, paintedParticleMaxX, paintedParticleMaxY;
+    
+    // Superposición de rendimiento
+    private boolean showPerformanceOverlay = false;
+    private String[] performanceLines = new String[0];
+    
+    // Captura de la partida
+    private FrameRecorder frameRecorder;
+    
+    /**
+     * Constructor de la pantalla de juego.
+     *
+     * @param controller Controlador que gestiona la lógica del juego
+     */
+    public GameScreen(GameController controller) {
+        this.controller = controller;
+        setLayout(null);
+        setOpaque(false);
+        
+        initializeComponents();
+        controller.registerGameScreen(this);
+    }
+    
+    /**
+     * Inicializa los componentes de la interfaz de usuario.
+     */
+    private void initializeComponents() {
+        // Crear botón para salir al menú desde la pausa
+        exitToMenuButton = new ModernButton("Volver al Menú");
+        exitToMenuButton.setBounds(PongGame.WIDTH / 2 - 100, PongGame.HEIGHT / 2 + 70, 200, 45);
+        exitToMenuButton.setFocusable(false);
+        exitToMenuButton.addActionListener(_ -> {
+            controller.exitToMainMenu();
+        });
+        exitToMenuButton.setVisible(false);
+        add(exitToMenuButton);
+    }
+    
+    //--------------------------------------
+    // Métodos de actualización de estado
+    //--------------------------------------
+    
+    @Override
+    public void setBallData(int x, int y, int width, int height, Color color) {
+        this.ballX = x;
+        this.ballY = y;
+        this.ballWidth = width;
+        this.ballHeight = height;
+        markFullRepaintIfChanged(this.ballColor, color);
+        this.ballColor = color;
+    }
+    
+    @Override
+    public void setPlayerPaddleData(int x, int y, int width, int height, Color color) {
+        this.playerPaddleX = x;
+        this.playerPaddleY = y;
+        this.playerPaddleWidth = width;
+        this.playerPaddleHeight = height;
+        markFullRepaintIfChanged(this.playerPaddleColor, color);
+        this.playerPaddleColor = color;
+    }
+    
+    @Override
+    public void setAIPaddleData(int x, int y, int width, int height, Color color) {
+        this.aiPaddleX = x;
+        this.aiPaddleY = y;
+        this.aiPaddleWidth = width;
+        this.aiPaddleHeight = height;
+        markFullRepaintIfChanged(this.aiPaddleColor, color);
+        this.aiPaddleColor = color;
+    }
+    
+    @Override
+    public void setScore(int playerScore, int aiScore) {
+        this.playerScore = playerScore;
+        this.aiScore = aiScore;
+    }
+    
+    @Override
+    public void setMultiplayerMode(boolean isMultiplayer) {
+        markFullRepaintIfChanged(this.isMultiplayerMode, isMultiplayer);
+        this.isMultiplayerMode = isMultiplayer;
+    }
+    
+    @Override
+    public void setParticles(ParticleSystem particles) {
+        this.particles = particles;
+    }
+    
+    @Override
+    public void setThemeName(String themeName) {
+        markFullRepaintIfChanged(this.themeName, themeName);
+        this.themeName = themeName;
+    }
+    
+    @Override
+    public void setBackgroundColor(Color color) {
+        markFullRepaintIfChanged(this.backgroundColor, color);
+        this.backgroundColor = color;
+    }
+    
+    @Override
+    public void setTextColor(Color color) {
+        markFullRepaintIfChanged(this.textColor, color);
+        this.textColor = color;
+    }
+    
+    @Override
+    public void setDividerColor(Color color) {
+        markFullRepaintIfChanged(this.dividerColor, color);
+        this.dividerColor = color;
+    }
+    
+    private void markFullRepaintIfChanged(Object oldValue, Object newValue) {
+        if (oldValue != newValue) {
+            fullRepaintNeeded = true;
+        }
+    }
+    
+    private void markFullRepaintIfChanged(boolean oldValue, boolean newValue) {
+        if (oldValue != newValue) {
+            fullRepaintNeeded = true;
+        }
+    }
+    
+    //--------------------------------------
+    // Métodos de control de UI
+    //--------------------------------------
+    
+    @Override
+    public void showPauseScreen(boolean show) {
+        this.showPause = show;
+    }
+    
+    @Override
+    public void setExitButtonVisible(boolean visible) {
+        exitToMenuButton.setVisible(visible);
+    }
+    
+    @Override
+    public void showGameOver(String winner) {
+        this.winnerText = winner;
+        this.gameOver = winner != null;
+    }
+    
+    @Override
+    public void showDelayMessage(String message) {
+        this.delayMessage = message;
+    }
+    
+    @Override
+    public void setCaptureActive(boolean active) {
+        if (active && frameRecorder == null) {
+            startCapture();
+        } else if (!active && frameRecorder != null) {
+            stopCapture();
+        }
+    }
+    
+    private void startCapture() {
+        String name = "pong-capture-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+            + CaptureFormat.EXTENSION;
+        try {
+            frameRecorder = new FrameRecorder(Paths.get(name), PongGame.WIDTH, PongGame.HEIGHT);
+            System.out.println("Captura iniciada: " + frameRecorder.getFile().toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("No se pudo iniciar la captura: " + e.getMessage());
+        }
+    }
+    
+    private void stopCapture() {
+        FrameRecorder recorder = frameRecorder;
+        frameRecorder = null;
+        try {
+            recorder.close();
+            System.out.println("Captura guardada: " + recorder.getFramesCaptured() + " fotogramas ("
+                + recorder.getFramesDropped() + " descartados), " + recorder.getBytesWritten() / 1024 + " KB");
+        } catch (IOException e) {
+            System.err.println("Error al guardar la captura: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Dibuja el fotograma para la captura sin contarlo como fotograma presentado
+     */
+    private void captureFrame() {
+        frameAccountingSuppressed = true;
+        try {
+            frameRecorder.capture(frameRenderer);
+        } finally {
+            frameAccountingSuppressed = false;
+        }
+    }
+    
+    @Override
+    public void showPerformanceOverlay(boolean show) {
+        this.showPerformanceOverlay = show;
+    }
+    
+    @Override
+    public void setPerformanceStats(PerformanceStatsDTO stats) {
+        this.performanceLines = formatPerformanceStats(stats);
+    }
+    
+    @Override
+    public void refresh() {
+        if (frameRecorder != null) {
+            captureFrame();
+        }
+        
+        // Con renderizado activo el tick dibuja directamente en el lienzo,
+        // salvo en pausa, donde hace falta el botón Swing de volver al menú
+        if (gameCanvas != null && inForeground && !showPause) {
+            if (!gameCanvas.isVisible()) {
+                gameCanvas.setVisible(true);
+            }
+            if (gameCanvas.render(frameRenderer)) {
+                return;
+            }
+        } else if (gameCanvas != null && gameCanvas.isVisible()) {
+            gameCanvas.setVisible(false);
+        }
+        
+        // Los mensajes superpuestos y los cambios de tema o modo necesitan
+        // un repintado completo; el resto de ticks solo mueven pelota y paletas
+        boolean overlayVisible = hasOverlay();
+        if (!inForeground || fullRepaintNeeded || overlayVisible || overlayPainted) {
+            repaint();
+            fullRepaintNeeded = false;
+        } else {
+            repaintDirtyRegions();
+        }
+        overlayPainted = overlayVisible;
+        rememberPaintedState();
+    }
+    
+    private boolean hasOverlay() {
+        return delayMessage != null || gameOver || showPause || showPerformanceOverlay;
+    }
+    
+    /**
+     * Repinta de inmediato solo la unión de las posiciones anterior y actual
+     * de cada objeto móvil, y el marcador si ha cambiado. Cada región se pinta
+     * por separado para que el RepaintManager no las combine en un rectángulo
+     * que cubra casi toda la pantalla.
+     */
+    private void repaintDirtyRegions() {
+        long paintStart = System.nanoTime();
+        frameAccountingSuppressed = true;
+        try {
+            paintUnion(paintedBallX, paintedBallY, paintedBallWidth, paintedBallHeight,
+                ballX, ballY, ballWidth, ballHeight);
+            paintUnion(paintedPlayerPaddleX, paintedPlayerPaddleY, paintedPlayerPaddleWidth, paintedPlayerPaddleHeight,
+                playerPaddleX, playerPaddleY, playerPaddleWidth, playerPaddleHeight);
+            paintUnion(paintedAiPaddleX, paintedAiPaddleY, paintedAiPaddleWidth, paintedAiPaddleHeight,
+                aiPaddleX, aiPaddleY, aiPaddleWidth, aiPaddleHeight);
+            
+            paintParticleRegion();
+            
+            if (playerScore != paintedPlayerScore || aiScore != paintedAiScore) {
+                paintImmediately(SCORE_AREA_X, SCORE_AREA_Y, SCORE_AREA_WIDTH, SCORE_AREA_HEIGHT);
+            }
+        } finally {
+            frameAccountingSuppressed = false;
+        }
+        controller.notifyFramePresented(paintStart, System.nanoTime());
+    }
+    
+    private void paintUnion(int oldX, int oldY, int oldWidth, int oldHeight,
+                            int newX, int newY, int newWidth, int newHeight) {
+        int left = Math.min(oldX, newX) - DIRTY_PADDING;
+        int top = Math.min(oldY, newY) - DIRTY_PADDING;
+        int right = Math.max(oldX + oldWidth, newX + newWidth) + DIRTY_PADDING;
+        int bottom = Math.max(oldY + oldHeight, newY + newHeight) + DIRTY_PADDING;
+        paintImmediately(left, top, right - left, bottom - top);
+    }
+    
+    /**
+     * Repinta la zona que cubrían las partículas en el fotograma anterior
+     * junto con la que cubren ahora
+     */
+    private void paintParticleRegion() {
+        boolean hasParticles = particles != null && particles.hasBounds();
+        if (!hasParticles && !paintedParticles) {
+            return;
+        }
+        int left = Integer.MAX_VALUE, top = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE, bottom = Integer.MIN_VALUE;
+        if (paintedParticles) {
+            left = paintedParticleMinX;
+            top = paintedParticleMinY;
+            right = paintedParticleMaxX;
+            bottom = paintedParticleMaxY;
+        }
+        if (hasParticles) {
+            left = Math.min(left, particles.getMinX());
+            top = Math.min(top, particles.getMinY());
+            right = Math.max(right, particles.getMaxX());
+            bottom = Math.max(bottom, particles.getMaxY());
+        }
+        paintImmediately(left - DIRTY_PADDING, top - DIRTY_PADDING,
+            right - left + 2 * DIRTY_PADDING, bottom - top + 2 * DIRTY_PADDING);
+    }
+    
+    private void rememberPaintedState() {
+        paintedBallX = ballX;
+        paintedBallY = ballY;
+        paintedBallWidth = ballWidth;
+        paintedBallHeight = ballHeight;
+        paintedPlayerPaddleX = playerPaddleX;
+        paintedPlayerPaddleY = playerPaddleY;
+        paintedPlayerPaddleWidth = playerPaddleWidth;
+        paintedPlayerPaddleHeight = playerPaddleHeight;
+        paintedAiPaddleX = aiPaddleX;
+        paintedAiPaddleY = aiPaddleY;
+        paintedAiPaddleWidth = aiPaddleWidth;
+        paintedAiPaddleHeight = aiPaddleHeight;
+        paintedPlayerScore = playerScore;
+        paintedAiScore = aiScore;
+        
+        paintedParticles = particles != null && particles.hasBounds();
+        if (paintedParticles) {
+            paintedParticleMinX = particles.getMinX();
+            paintedParticleMinY = particles.getMinY();
+            paintedParticleMaxX = particles.getMaxX();
+            paintedParticleMaxY = particles.getMaxY();
+        }
+    }
+    
+    /**
+     * Establece el lienzo de renderizado activo (null para usar solo Swing).
+     *
+     * @param canvas Lienzo en el que dibujar directamente desde el bucle del juego
+     */
+    public void setGameCanvas(GameCanvas canvas) {
+        this.gameCanvas = canvas;
+    }
+    
+    /**
+     * Indica si la pantalla de juego está en primer plano, sin menús encima.
+     * Solo entonces puede usar el lienzo activo o repintar por regiones.
+     *
+     * @param inForeground true cuando se muestra la partida
+     */
+    public void setInForeground(boolean inForeground) {
+        if (inForeground != this.inForeground) {
+            fullRepaintNeeded = true;
+        }
+        this.inForeground = inForeground;
+        if (!inForeground && gameCanvas != null && gameCanvas.isVisible()) {
+            gameCanvas.setVisible(false);
+        }
+    }
+    
+    //--------------------------------------
+    // Métodos de renderizado
+    //--------------------------------------
+    
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        renderFrame(g);
+    }
+    
+    /**
+     * Dibuja el fotograma actual en cualquier contexto gráfico, por ejemplo el
+     * de una imagen en memoria cuando se renderiza sin ventana
+     */
+    public void renderTo(Graphics g) {
+        renderFrame(g);
+    }
+    
+    /**
+     * Dibuja un fotograma completo, ya sea desde Swing o desde el lienzo activo.
+     */
+    private void renderFrame(Graphics g) {
+        RenderEvent event = RenderEvent.isRecording() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        long paintStart = System.nanoTime();
+        RenderPalette palette = getPalette();
+        
+        // Dibuja el fondo y la línea divisoria desde la capa en caché
+        backgroundLayer.draw(g, this, palette, PongGame.WIDTH, PongGame.HEIGHT);
+        
+        // Dibuja los efectos por debajo de los elementos del juego
+        drawParticles(g);
+        
+        // Dibuja elementos del juego
+        drawPaddles(g);
+        drawBall(g);
+        drawScores(g, palette);
+        
+        // Dibuja mensajes de estado
+        if (delayMessage != null) {
+            drawDelayMessage(g, palette);
+        }
+        
+        if (gameOver && winnerText != null) {
+            drawGameOverMessage(g, palette);
+        } else if (showPause) {
+            drawPauseMessage(g, palette);
+        }
+        
+        // Dibuja información del modo de juego
+        drawGameInfo(g, palette);
+        
+        if (showPerformanceOverlay) {
+            drawPerformanceOverlay(g);
+        }
+        
+        // Las regiones parciales se contabilizan juntas como un único fotograma
+        if (!frameAccountingSuppressed) {
+            controller.notifyFramePresented(paintStart, System.nanoTime());
+        }
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = "GAME";
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Dibuja la estela, las chispas y las explosiones.
+     */
+    private void drawParticles(Graphics g) {
+        if (particles != null) {
+            particleRenderer.setColors(ballColor, playerPaddleColor, textColor);
+            particleRenderer.draw(g, particles);
+        }
+    }
+    
+    /**
+     * Dibuja las paletas de ambos jugadores.
+     */
+    private void drawPaddles(Graphics g) {
+        g.setColor(playerPaddleColor);
+        g.fillRect(playerPaddleX, playerPaddleY, playerPaddleWidth, playerPaddleHeight);
+        
+        g.setColor(aiPaddleColor);
+        g.fillRect(aiPaddleX, aiPaddleY, aiPaddleWidth, aiPaddleHeight);
+    }
+    
+    /**
+     * Dibuja la pelota solo si el juego no ha terminado.
+     */
+    private void drawBall(Graphics g) {
+        if (winnerText == null) {
+            g.setColor(ballColor);
+            g.fillOval(ballX, ballY, ballWidth, ballHeight);
+        }
+    }
+    
+    /**
+     * Devuelve la paleta del tema actual, reconstruyéndola solo si el tema ha cambiado.
+     */
+    private RenderPalette getPalette() {
+        if (palette == null || !palette.matches(themeName, backgroundColor, textColor, dividerColor)) {
+            palette = new RenderPalette(themeName, backgroundColor, textColor, dividerColor, this);
+        }
+        return palette;
+    }
+    
+    /**
+     * Dibuja las puntuaciones de ambos jugadores.
+     */
+    private void drawScores(Graphics g, RenderPalette palette) {
+        ScoreAtlas atlas = palette.getScoreAtlas();
+        
+        if (isMultiplayerMode) {
+            int x = atlas.drawLabel(g, ScoreAtlas.LABEL_PLAYER_ONE, PongGame.WIDTH / 2 - 80, 50);
+            atlas.drawNumber(g, playerScore, x, 50);
+            x = atlas.drawLabel(g, ScoreAtlas.LABEL_PLAYER_TWO, PongGame.WIDTH / 2 + 20, 50);
+            atlas.drawNumber(g, aiScore, x, 50);
+        } else {
+            atlas.drawNumber(g, playerScore, PongGame.WIDTH / 2 - 50, 50);
+            atlas.drawNumber(g, aiScore, PongGame.WIDTH / 2 + 30, 50);
+        }
+    }
+    
+    /**
+     * Dibuja el mensaje de retraso (countdown).
+     */
+    private void drawDelayMessage(Graphics g, RenderPalette palette) {
+        g.setColor(RenderPalette.HIGHLIGHT_COLOR);
+        g.setFont(RenderPalette.MESSAGE_FONT);
+        int messageWidth = palette.getMessageWidth(delayMessage);
+        g.drawString(delayMessage, PongGame.WIDTH / 2 - messageWidth / 2, PongGame.HEIGHT / 2);
+    }
+    
+    /**
+     * Dibuja el mensaje de fin de juego.
+     */
+    private void drawGameOverMessage(Graphics g, RenderPalette palette) {
+        g.setColor(RenderPalette.HIGHLIGHT_COLOR);
+        
+        g.setFont(RenderPalette.TITLE_FONT);
+        g.drawString(RenderPalette.GAME_OVER_TEXT,
+            PongGame.WIDTH / 2 - palette.getGameOverWidth() / 2, PongGame.HEIGHT / 2 - 50);
+        
+        g.setFont(RenderPalette.MESSAGE_FONT);
+        g.drawString(palette.getWinnerText(winnerText),
+            PongGame.WIDTH / 2 - palette.getWinnerWidth(winnerText) / 2, PongGame.HEIGHT / 2);
+        
+        g.setFont(RenderPalette.HINT_FONT);
+        g.drawString(RenderPalette.PLAY_AGAIN_TEXT,
+            PongGame.WIDTH / 2 - palette.getPlayAgainWidth() / 2, PongGame.HEIGHT / 2 + 40);
+    }
+    
+    /**
+     * Dibuja el mensaje de pausa.
+     */
+    private void drawPauseMessage(Graphics g, RenderPalette palette) {
+        g.setColor(RenderPalette.PAUSE_COLOR);
+        
+        g.setFont(RenderPalette.TITLE_FONT);
+        g.drawString(RenderPalette.PAUSE_TEXT,
+            PongGame.WIDTH / 2 - palette.getPauseWidth() / 2, PongGame.HEIGHT / 2 - 50);
+        
+        g.setFont(RenderPalette.HINT_FONT);
+        g.drawString(RenderPalette.CONTINUE_TEXT,
+            PongGame.WIDTH / 2 - palette.getContinueWidth() / 2, PongGame.HEIGHT / 2);
+    }
+    
+    /**
+     * Dibuja información del modo de juego y tema.
+     */
+    private void drawGameInfo(Graphics g, RenderPalette palette) {
+        g.setFont(RenderPalette.INFO_FONT);
+        g.setColor(palette.getTextColor());
+        g.drawString(isMultiplayerMode ? RenderPalette.MULTIPLAYER_TEXT : RenderPalette.SINGLE_PLAYER_TEXT,
+            10, PongGame.HEIGHT - 25);
+        g.drawString(palette.getThemeLabel(), 10, PongGame.HEIGHT - 10);
+    }
+    
+    /**
+     * Dibuja la superposición con las métricas de rendimiento.
+     */
+    private void drawPerformanceOverlay(Graphics g) {
+        g.setFont(OVERLAY_FONT);
+        g.setColor(Color.GREEN);
+        int y = 80;
+        for (String line : performanceLines) {
+            g.drawString(line, 10, y);
+            y += 15;
+        }
+    }
+    
+    /**
+     * Convierte las métricas en las líneas de texto de la superposición.
+     * Se invoca solo cuando cambian, no en cada fotograma.
+     */
+    private static String[] formatPerformanceStats(PerformanceStatsDTO stats) {
+        String allocation = stats.getAllocationBytesPerSecond() < 0
+            ? "n/d"
+            : (stats.getAllocationBytesPerSecond() / 1024) + " KB/s";
+        return new String[] {
+            String.format("FPS %d   GC %d   Asignación %s",
+                stats.getFramesPerSecond(), stats.getGcCount(), allocation),
+            String.format("Tick p99 %.2f ms   Jitter %.2f ms   Vistas p99 %.2f ms",
+                millis(stats.getTickP99()), millis(stats.getTickJitter()), millis(stats.getViewUpdateP99())),
+            String.format("Fotograma p99 %.2f ms",
+                millis(stats.getFrameP99())),
+            String.format("Latencia entrada p50 %.2f ms   p99 %.2f ms   p99.9 %.2f ms   (n=%d)",
+                millis(stats.getInputLatencyP50()), millis(stats.getInputLatencyP99()),
+                millis(stats.getInputLatencyP999()), stats.getInputLatencySamples())
+        };
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
\ No newline at end of file
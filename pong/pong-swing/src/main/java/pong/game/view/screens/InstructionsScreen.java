@@ -1,11 +1,14 @@
 package pong.game.view.screens;
 
 import pong.game.controller.GameController;
+import pong.game.diagnostics.events.RenderEvent;
 import pong.game.view.ModernButton;
+import pong.game.view.OverlayLayer;
 import pong.game.view.interfaces.InstructionsScreenInterface;
 
 import javax.swing.JPanel;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Font;
 import java.awt.Color;
 
@@ -15,6 +18,30 @@ import java.awt.Color;
  * y controles para los modos de un jugador y multijugador.
  */
 public class InstructionsScreen extends JPanel implements InstructionsScreenInterface {
+    // Recursos de dibujado
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font TEXT_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font FOOTER_FONT = new Font("Arial", Font.ITALIC, 16);
+    private static final Color FOOTER_COLOR = new Color(200, 200, 200, 220); // Gris claro semitransparente
+    
+    private static final String[] MULTIPLAYER_INSTRUCTIONS = {
+        "• Jugador 1: Usa la tecla W para mover la paleta hacia arriba",
+        "• Jugador 1: Usa la tecla S para mover la paleta hacia abajo",
+        "• Jugador 2: Usa la FLECHA ARRIBA para mover la paleta hacia arriba", 
+        "• Jugador 2: Usa la FLECHA ABAJO para mover la paleta hacia abajo",
+        "• Anota puntos haciendo que la pelota pase la paleta del oponente",
+        "• Presiona ESPACIO para pausar/reanudar el juego",
+        "• El primer jugador en llegar a 10 puntos gana!"
+    };
+    
+    private static final String[] SINGLE_PLAYER_INSTRUCTIONS = {
+        "• Usa la tecla W para mover la paleta hacia arriba",
+        "• Usa la tecla S para mover la paleta hacia abajo",
+        "• Anota puntos haciendo que la pelota pase la paleta de la IA",
+        "• Presiona ESPACIO para pausar/reanudar el juego",
+        "• El primer jugador en llegar a 10 puntos gana!"
+    };
+    
     // Controlador del juego
     private GameController controller;
     
@@ -27,6 +54,10 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
     private Color overlayColor = new Color(0, 0, 0, 180);
     private boolean isMultiplayerMode = false;
     
+    // Contenido estático compuesto en una sola imagen
+    private final OverlayLayer overlayLayer = new OverlayLayer();
+    private final OverlayLayer.ContentRenderer overlayRenderer = this::renderOverlay;
+    
     /**
      * Constructor de la pantalla de instrucciones.
      * 
@@ -64,16 +95,25 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
     
     @Override
     public void setTextColor(Color color) {
+        if (!color.equals(this.textColor)) {
+            overlayLayer.invalidate();
+        }
         this.textColor = color;
     }
     
     @Override
     public void setOverlayColor(Color color) {
+        if (!color.equals(this.overlayColor)) {
+            overlayLayer.invalidate();
+        }
         this.overlayColor = color;
     }
     
     @Override
     public void setMultiplayerMode(boolean isMultiplayer) {
+        if (isMultiplayer != this.isMultiplayerMode) {
+            overlayLayer.invalidate();
+        }
         this.isMultiplayerMode = isMultiplayer;
     }
     
@@ -93,11 +133,32 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
     // Métodos sobrescritos
     @Override
     protected void paintComponent(Graphics g) {
+        RenderEvent event = RenderEvent.isRecording() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
         super.paintComponent(g);
         
+        // El overlay y los textos se componen solo cuando cambian el tema o el modo
+        overlayLayer.draw(g, this, overlayRenderer);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = "INSTRUCTIONS";
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Dibuja el contenido estático de la pantalla en la capa compuesta
+     */
+    private void renderOverlay(Graphics2D g, int width, int height) {
         // Dibuja overlay semitransparente
         g.setColor(overlayColor);
-        g.fillRect(0, 0, getWidth(), getHeight());
+        g.fillRect(0, 0, width, height);
         
         drawTitle(g);
         drawInstructions(g);
@@ -109,7 +170,7 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
      */
     private void drawTitle(Graphics g) {
         g.setColor(textColor);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(TITLE_FONT);
         String title = "Cómo Jugar";
         int titleWidth = g.getFontMetrics().stringWidth(title);
         g.drawString(title, getWidth() / 2 - titleWidth / 2, 80);
@@ -119,28 +180,8 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
      * Dibuja las instrucciones según el modo de juego.
      */
     private void drawInstructions(Graphics g) {
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
-        String[] instructions;
-        
-        if (isMultiplayerMode) {
-            instructions = new String[] {
-                "• Jugador 1: Usa la tecla W para mover la paleta hacia arriba",
-                "• Jugador 1: Usa la tecla S para mover la paleta hacia abajo",
-                "• Jugador 2: Usa la FLECHA ARRIBA para mover la paleta hacia arriba", 
-                "• Jugador 2: Usa la FLECHA ABAJO para mover la paleta hacia abajo",
-                "• Anota puntos haciendo que la pelota pase la paleta del oponente",
-                "• Presiona ESPACIO para pausar/reanudar el juego",
-                "• El primer jugador en llegar a 10 puntos gana!"
-            };
-        } else {
-            instructions = new String[] {
-                "• Usa la tecla W para mover la paleta hacia arriba",
-                "• Usa la tecla S para mover la paleta hacia abajo",
-                "• Anota puntos haciendo que la pelota pase la paleta de la IA",
-                "• Presiona ESPACIO para pausar/reanudar el juego",
-                "• El primer jugador en llegar a 10 puntos gana!"
-            };
-        }
+        g.setFont(TEXT_FONT);
+        String[] instructions = isMultiplayerMode ? MULTIPLAYER_INSTRUCTIONS : SINGLE_PLAYER_INSTRUCTIONS;
         
         // Calcular posición inicial para centrar verticalmente las instrucciones
         int totalHeight = instructions.length * 40; // 40px por línea
@@ -168,8 +209,8 @@ public class InstructionsScreen extends JPanel implements InstructionsScreenInte
      * Dibuja el pie de página de la pantalla de instrucciones.
      */
     private void drawFooter(Graphics g) {
-        g.setFont(new Font("Arial", Font.ITALIC, 16));
-        g.setColor(new Color(200, 200, 200, 220)); // Gris claro semitransparente
+        g.setFont(FOOTER_FONT);
+        g.setColor(FOOTER_COLOR);
         String note = "¡Diviértete jugando!";
         int noteWidth = g.getFontMetrics().stringWidth(note);
         g.drawString(note, getWidth() / 2 - noteWidth / 2, getHeight() - 50);
@@ -3,6 +3,7 @@ package pong.game.view.screens;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.event.ActionListener;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,7 +11,9 @@ import java.util.Map;
 import javax.swing.JPanel;
 
 import pong.game.controller.GameController;
+import pong.game.diagnostics.events.RenderEvent;
 import pong.game.view.ModernButton;
+import pong.game.view.OverlayLayer;
 import pong.game.view.PongGame;
 import pong.game.view.interfaces.MenuScreenInterface;
 
@@ -25,6 +28,10 @@ public class MenuScreen extends JPanel implements MenuScreenInterface {
     private static final int BUTTON_HEIGHT = 45;
     private static final int BUTTON_SPACING = 10;
     
+    // Recursos de dibujado
+    private static final Color VEIL_COLOR = new Color(0, 0, 0, 150); // Negro semitransparente
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    
     // Controlador del juego
     private GameController controller;
     
@@ -47,6 +54,10 @@ public class MenuScreen extends JPanel implements MenuScreenInterface {
     private Color buttonColor = new Color(70, 130, 180);
     private Color buttonTextColor = Color.WHITE;
     
+    // Contenido estático compuesto en una sola imagen
+    private final OverlayLayer overlayLayer = new OverlayLayer();
+    private final OverlayLayer.ContentRenderer overlayRenderer = this::renderOverlay;
+    
     /**
      * Constructor de la pantalla de menú.
      * 
@@ -152,16 +163,37 @@ public class MenuScreen extends JPanel implements MenuScreenInterface {
     
     @Override
     protected void paintComponent(Graphics g) {
+        RenderEvent event = RenderEvent.isRecording() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
         super.paintComponent(g);
         
+        // El velo y el título se componen una sola vez por tema
+        overlayLayer.draw(g, this, overlayRenderer);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = "MAIN_MENU";
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Dibuja el contenido estático de la pantalla en la capa compuesta
+     */
+    private void renderOverlay(Graphics2D g, int width, int height) {
         // Dibujar un fondo semitransparente para mejorar la legibilidad
-        g.setColor(new Color(0, 0, 0, 150)); // Negro semitransparente
-        g.fillRect(0, 0, getWidth(), getHeight());
+        g.setColor(VEIL_COLOR);
+        g.fillRect(0, 0, width, height);
         
         // Dibujar título del juego
         g.setColor(textColor);
-        g.setFont(new Font("Arial", Font.BOLD, 48));
-        g.drawString("PONG", getWidth() / 2 - 70, 100);
+        g.setFont(TITLE_FONT);
+        g.drawString("PONG", width / 2 - 70, 100);
     }
     
     @Override
@@ -196,6 +228,9 @@ public class MenuScreen extends JPanel implements MenuScreenInterface {
     
     @Override
     public void setThemeColors(Color background, Color text, Color button, Color buttonText) {
+        if (!text.equals(this.textColor)) {
+            overlayLayer.invalidate();
+        }
         this.backgroundColor = background;
         this.textColor = text;
         this.buttonColor = button;
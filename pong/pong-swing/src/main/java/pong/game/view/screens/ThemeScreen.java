@@ -2,13 +2,16 @@ package pong.game.view.screens;
 
 import pong.game.controller.GameController;
 import pong.game.controller.dto.ThemeDTO;
+import pong.game.diagnostics.events.RenderEvent;
 import pong.game.model.Theme;
 import pong.game.view.ModernButton;
+import pong.game.view.OverlayLayer;
 import pong.game.view.PongGame;
 import pong.game.view.interfaces.ThemeScreenInterface;
 
 import javax.swing.JPanel;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Font;
 import java.awt.Color;
 import java.util.ArrayList;
@@ -18,6 +21,11 @@ import java.util.List;
  * Pantalla de selección de temas - MVC estricto
  */
 public class ThemeScreen extends JPanel implements ThemeScreenInterface {
+    // Recursos de dibujado
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font CURRENT_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font DESCRIPTION_FONT = new Font("Arial", Font.PLAIN, 16);
+    
     // Controlador
     private GameController controller;
     
@@ -36,6 +44,10 @@ public class ThemeScreen extends JPanel implements ThemeScreenInterface {
     private String currentThemeName = "Classic";
     private List<ThemeDTO> themes = new ArrayList<>();
     
+    // Contenido estático compuesto en una sola imagen
+    private final OverlayLayer overlayLayer = new OverlayLayer();
+    private final OverlayLayer.ContentRenderer overlayRenderer = this::renderOverlay;
+    
     /**
      * Constructor de la pantalla de temas
      * @param controller Controlador del juego
@@ -98,10 +110,12 @@ public class ThemeScreen extends JPanel implements ThemeScreenInterface {
                 public void mouseEntered(java.awt.event.MouseEvent evt) {
                     hoverDescription = "Tema: " + themeName + "\n" +
                                  "Cambia los colores de los elementos del juego.";
+                    overlayLayer.invalidate();
                     repaint();
                 }
                 public void mouseExited(java.awt.event.MouseEvent evt) {
                     hoverDescription = "";
+                    overlayLayer.invalidate();
                     repaint();
                 }
             });
@@ -144,16 +158,25 @@ public class ThemeScreen extends JPanel implements ThemeScreenInterface {
     
     @Override
     public void setTextColor(Color color) {
+        if (!color.equals(this.textColor)) {
+            overlayLayer.invalidate();
+        }
         this.textColor = color;
     }
     
     @Override
     public void setOverlayColor(Color color) {
+        if (!color.equals(this.overlayColor)) {
+            overlayLayer.invalidate();
+        }
         this.overlayColor = color;
     }
     
     @Override
     public void setCurrentTheme(String themeName) {
+        if (!themeName.equals(this.currentThemeName)) {
+            overlayLayer.invalidate();
+        }
         this.currentThemeName = themeName;
     }
     
@@ -190,25 +213,46 @@ public class ThemeScreen extends JPanel implements ThemeScreenInterface {
     
     @Override
     protected void paintComponent(Graphics g) {
+        RenderEvent event = RenderEvent.isRecording() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
         super.paintComponent(g);
         
+        // El overlay y los textos se componen solo cuando cambian el tema o la descripción
+        overlayLayer.draw(g, this, overlayRenderer);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.screen = "THEMES";
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Dibuja el contenido estático de la pantalla en la capa compuesta
+     */
+    private void renderOverlay(Graphics2D g, int width, int height) {
         // Dibuja overlay semitransparente
         g.setColor(overlayColor);
-        g.fillRect(0, 0, getWidth(), getHeight());
+        g.fillRect(0, 0, width, height);
         
         // Dibuja título
         g.setColor(textColor);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
-        g.drawString("Seleccionar Tema", getWidth() / 2 - 140, 80);
+        g.setFont(TITLE_FONT);
+        g.drawString("Seleccionar Tema", width / 2 - 140, 80);
         
         // Dibuja tema actual
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
-        g.drawString("Actual: " + currentThemeName, getWidth() / 2 - 80, 120);
+        g.setFont(CURRENT_FONT);
+        g.drawString("Actual: " + currentThemeName, width / 2 - 80, 120);
         
         // Dibuja descripción al pasar el ratón
         if (!hoverDescription.isEmpty()) {
-            g.setFont(new Font("Arial", Font.PLAIN, 16));
-            drawMultiLineText(g, hoverDescription, getWidth() / 2 - 150, 450);
+            g.setFont(DESCRIPTION_FONT);
+            drawMultiLineText(g, hoverDescription, width / 2 - 150, 450);
         }
     }
     
@@ -0,0 +1,135 @@
+package pong.game.view.capture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que {@link CaptureFormat} reproduce exactamente los píxeles RGB
+ * grabados y que una captura cortada se lee hasta el último fotograma completo.
+ */
+class CaptureFormatTest {
+    private static final int WIDTH = 16;
+    private static final int HEIGHT = 4;
+    private static final int PIXELS = WIDTH * HEIGHT;
+    
+    @Test
+    void roundTripReproducesEveryFrame() throws IOException {
+        int[] first = randomFrame(1);
+        
+        // Dos cambios separados por un hueco corto, que se une en un solo tramo, y otro aparte
+        int[] shortGap = first.clone();
+        shortGap[10] ^= 0x0000FF;
+        shortGap[13] ^= 0x00FF00;
+        shortGap[40] ^= 0xFF0000;
+        
+        int[] lastPixel = shortGap.clone();
+        lastPixel[PIXELS - 1] ^= 0x010101;
+        
+        // Mismos colores con otros bits de alfa
+        int[] alphaOnly = lastPixel.clone();
+        for (int i = 0; i < PIXELS; i++) {
+            alphaOnly[i] ^= 0xFF000000;
+        }
+        
+        int[] unrelated = randomFrame(2);
+        
+        List<int[]> frames = List.of(first, shortGap, lastPixel, alphaOnly, unrelated);
+        byte[] capture = encode(frames);
+        
+        try (DataInputStream in = open(capture)) {
+            int[] pixels = new int[PIXELS];
+            for (int i = 0; i < frames.size(); i++) {
+                assertEquals(i * 16L, CaptureFormat.readFrame(in, pixels), "marca de tiempo del fotograma " + i);
+                assertArrayEquals(rgb(frames.get(i)), rgb(pixels), "píxeles del fotograma " + i);
+            }
+            assertEquals(-1, CaptureFormat.readFrame(in, pixels));
+        }
+    }
+    
+    @Test
+    void alphaOnlyChangeWritesNoSpans() throws IOException {
+        int[] frame = randomFrame(3);
+        int[] previous = frame.clone();
+        for (int i = 0; i < PIXELS; i++) {
+            previous[i] |= 0xFF000000;
+        }
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CaptureFormat.writeFrame(new DataOutputStream(bytes), 5, frame, previous);
+        
+        // Marcador, marca de tiempo y cero tramos
+        assertArrayEquals(new byte[] {'F', 5, 0}, bytes.toByteArray());
+    }
+    
+    @Test
+    void truncatedRecordEndsCapture() throws IOException {
+        int[] first = randomFrame(4);
+        int[] second = randomFrame(5);
+        byte[] capture = encode(List.of(first, second));
+        int firstRecordEnd = encode(List.of(first)).length;
+        
+        // Cualquier corte dentro del segundo registro deja solo el primer fotograma
+        for (int cut = firstRecordEnd + 1; cut < capture.length; cut++) {
+            try (DataInputStream in = open(Arrays.copyOf(capture, cut))) {
+                int[] pixels = new int[PIXELS];
+                assertEquals(0, CaptureFormat.readFrame(in, pixels));
+                assertArrayEquals(rgb(first), rgb(pixels));
+                assertEquals(-1, CaptureFormat.readFrame(in, pixels), "corte en el byte " + cut);
+            }
+        }
+    }
+    
+    private static byte[] encode(List<int[]> frames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        CaptureFormat.writeHeader(out, WIDTH, HEIGHT);
+        int[] previous = new int[PIXELS];
+        for (int i = 0; i < frames.size(); i++) {
+            CaptureFormat.writeFrame(out, i * 16L, frames.get(i), previous);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+    
+    private static DataInputStream open(byte[] capture) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(capture));
+        assertArrayEquals(new int[] {WIDTH, HEIGHT}, CaptureFormat.readHeader(in));
+        return in;
+    }
+    
+    /**
+     * Fotograma con rachas de colores, como el campo de juego, y algo de alfa
+     */
+    private static int[] randomFrame(long seed) {
+        Random random = new Random(seed);
+        int[] pixels = new int[PIXELS];
+        int i = 0;
+        while (i < PIXELS) {
+            int color = random.nextInt();
+            int run = 1 + random.nextInt(6);
+            for (int j = 0; j < run && i < PIXELS; j++, i++) {
+                pixels[i] = color;
+            }
+        }
+        return pixels;
+    }
+    
+    private static int[] rgb(int[] pixels) {
+        int[] rgb = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            rgb[i] = pixels[i] & 0xFFFFFF;
+        }
+        return rgb;
+    }
+}